@@ -0,0 +1,89 @@
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Gerador de carga minimo, so com o JDK: N clientes em laco fechado contra
+ * uma URL durante S segundos. Imprime uma linha
+ * concorrencia;requisicoes;req/s;p50 ms;p95 ms;p99 ms;max ms;erros
+ *
+ * Uso: java CargaHttp.java <url> <concorrencia> <segundos> [bearer token]
+ */
+public class CargaHttp {
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args[0]);
+        int concorrencia = Integer.parseInt(args[1]);
+        long segundos = Long.parseLong(args[2]);
+        String token = args.length > 3 ? args[3] : null;
+
+        HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(Duration.ofSeconds(10))
+                .executor(Executors.newFixedThreadPool(8))
+                .build();
+        HttpRequest.Builder builder = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(120)).GET();
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        HttpRequest request = builder.build();
+
+        long fim = System.nanoTime() + TimeUnit.SECONDS.toNanos(segundos);
+        AtomicLong erros = new AtomicLong();
+        List<List<Long>> latencias = new ArrayList<>();
+        ExecutorService clientes = Executors.newFixedThreadPool(concorrencia);
+
+        for (int i = 0; i < concorrencia; i++) {
+            List<Long> minhas = new ArrayList<>();
+            latencias.add(minhas);
+            clientes.submit(() -> {
+                while (System.nanoTime() < fim) {
+                    long inicio = System.nanoTime();
+                    try {
+                        HttpResponse<Void> resposta = client.send(request, HttpResponse.BodyHandlers.discarding());
+                        if (resposta.statusCode() >= 400) {
+                            erros.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        erros.incrementAndGet();
+                    }
+                    minhas.add(System.nanoTime() - inicio);
+                }
+            });
+        }
+
+        clientes.shutdown();
+        clientes.awaitTermination(segundos + 180, TimeUnit.SECONDS);
+
+        List<Long> todas = new ArrayList<>();
+        latencias.forEach(todas::addAll);
+        Collections.sort(todas);
+
+        System.out.printf("%d;%d;%.1f;%.1f;%.1f;%.1f;%.1f;%d%n",
+                concorrencia,
+                todas.size(),
+                todas.size() / (double) segundos,
+                percentil(todas, 0.50),
+                percentil(todas, 0.95),
+                percentil(todas, 0.99),
+                todas.isEmpty() ? 0.0 : todas.get(todas.size() - 1) / 1e6,
+                erros.get());
+        System.exit(0);
+    }
+
+    private static double percentil(List<Long> ordenadas, double p) {
+        if (ordenadas.isEmpty()) {
+            return 0.0;
+        }
+        int indice = (int) Math.min(ordenadas.size() - 1, Math.ceil(p * ordenadas.size()) - 1);
+        return ordenadas.get(Math.max(indice, 0)) / 1e6;
+    }
+}
@@ -0,0 +1,45 @@
+#!/usr/bin/env bash
+# Compara thread por requisicao (padrao) com o profile "virtual".
+#
+# Uso: benchmark/comparar-threads.sh [caminho] [concorrencias] [segundos]
+#   ex.: benchmark/comparar-threads.sh "/servico?pagina=0&quantidade=20" "50 200 1000" 30
+#
+# Requer JDK 21 no PATH e as mesmas variaveis de ambiente da aplicacao
+# (SPRING_DATASOURCE_URL, SPRING_DATASOURCE_USERNAME, SPRING_DATASOURCE_PASSWORD,
+# GOOGLE_CLIENT_ID, GOOGLE_CLIENT_SECRET). BENCH_TOKEN, se definido, vai como
+# Bearer em todas as requisicoes.
+set -euo pipefail
+
+CAMINHO=${1:-"/servico?pagina=0&quantidade=20"}
+CONCORRENCIAS=${2:-"50 200 1000"}
+SEGUNDOS=${3:-30}
+PORTA=${PORTA:-8080}
+URL="http://localhost:${PORTA}${CAMINHO}"
+
+cd "$(dirname "$0")/.."
+sh mvnw -q -P java21 -DskipTests package
+JAR=$(ls target/allservice-*.jar | grep -v plain | head -1)
+
+subir() {
+    java -jar "$JAR" --server.port="$PORTA" --spring.jpa.show-sql=false "$@" > "target/benchmark-app.log" 2>&1 &
+    PID=$!
+    for _ in $(seq 1 120); do
+        curl -sf "http://localhost:${PORTA}/actuator/health" > /dev/null && return 0
+        sleep 1
+    done
+    echo "aplicacao nao subiu, veja target/benchmark-app.log" >&2
+    kill "$PID"
+    exit 1
+}
+
+echo "modo;concorrencia;requisicoes;req/s;p50 ms;p95 ms;p99 ms;max ms;erros"
+for MODO in padrao virtual; do
+    if [ "$MODO" = virtual ]; then subir --spring.profiles.active=virtual; else subir; fi
+    # aquecimento: JIT, pool de conexoes e caches
+    java benchmark/CargaHttp.java "$URL" 20 10 ${BENCH_TOKEN:-} > /dev/null
+    for C in $CONCORRENCIAS; do
+        echo "$MODO;$(java benchmark/CargaHttp.java "$URL" "$C" "$SEGUNDOS" ${BENCH_TOKEN:-})"
+    done
+    kill "$PID"
+    wait "$PID" 2> /dev/null || true
+done
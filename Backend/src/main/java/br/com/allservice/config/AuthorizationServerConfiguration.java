@@ -1,17 +1,32 @@
 package br.com.allservice.config;
 
+import br.com.allservice.security.AutorizacaoJacksonModule;
 import br.com.allservice.security.CustomAuthentication;
+import br.com.allservice.security.JwkRotativoSource;
+import br.com.allservice.security.PasswordEncoderLimitado;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.sql.init.dependency.DependsOnDatabaseInitialization;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.jackson2.SecurityJackson2Modules;
+import org.springframework.security.oauth2.server.authorization.JdbcOAuth2AuthorizationConsentService;
+import org.springframework.security.oauth2.server.authorization.JdbcOAuth2AuthorizationService;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationConsentService;
+import org.springframework.security.oauth2.server.authorization.OAuth2AuthorizationService;
 import org.springframework.security.oauth2.server.authorization.OAuth2TokenType;
+import org.springframework.security.oauth2.server.authorization.client.RegisteredClientRepository;
 import org.springframework.security.oauth2.server.authorization.config.annotation.web.configuration.OAuth2AuthorizationServerConfiguration;
 import org.springframework.security.oauth2.server.authorization.config.annotation.web.configurers.OAuth2AuthorizationServerConfigurer;
+import org.springframework.security.oauth2.server.authorization.jackson2.OAuth2AuthorizationServerJackson2Module;
 import org.springframework.security.oauth2.server.authorization.settings.AuthorizationServerSettings;
 import org.springframework.security.oauth2.server.authorization.settings.ClientSettings;
 import org.springframework.security.oauth2.server.authorization.settings.OAuth2TokenFormat;
@@ -34,7 +49,7 @@ public class AuthorizationServerConfiguration {
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(List.of("http://localhost:4200"));
-        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(List.of("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
         configuration.setAllowCredentials(true);
         UrlBasedCorsConfigurationSource source = new UrlBasedCorsConfigurationSource();
@@ -81,11 +96,48 @@ public class AuthorizationServerConfiguration {
     }
 
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(10);
+    public PasswordEncoder passwordEncoder(
+            MeterRegistry meterRegistry,
+            @Value("${allservice.seguranca.senha.threads:#{T(java.lang.Runtime).getRuntime().availableProcessors()}}") int threads,
+            @Value("${allservice.seguranca.senha.fila:64}") int fila
+    ) {
+        return new PasswordEncoderLimitado(new BCryptPasswordEncoder(10), threads, fila, meterRegistry);
     }
 
 
+    @Bean
+    @DependsOnDatabaseInitialization
+    public OAuth2AuthorizationService authorizationService(
+            JdbcTemplate jdbcTemplate,
+            RegisteredClientRepository registeredClientRepository
+    ) {
+        ObjectMapper objectMapper = new ObjectMapper();
+        ClassLoader classLoader = JdbcOAuth2AuthorizationService.class.getClassLoader();
+        objectMapper.registerModules(SecurityJackson2Modules.getModules(classLoader));
+        objectMapper.registerModule(new OAuth2AuthorizationServerJackson2Module());
+        objectMapper.registerModule(new AutorizacaoJacksonModule());
+
+        var rowMapper = new JdbcOAuth2AuthorizationService.OAuth2AuthorizationRowMapper(registeredClientRepository);
+        rowMapper.setObjectMapper(objectMapper);
+        var parametersMapper = new JdbcOAuth2AuthorizationService.OAuth2AuthorizationParametersMapper();
+        parametersMapper.setObjectMapper(objectMapper);
+
+        // as colunas sao tipadas na construcao, por isso depende do schema ja aplicado
+        var authorizationService = new JdbcOAuth2AuthorizationService(jdbcTemplate, registeredClientRepository);
+        authorizationService.setAuthorizationRowMapper(rowMapper);
+        authorizationService.setAuthorizationParametersMapper(parametersMapper);
+        return authorizationService;
+    }
+
+    @Bean
+    @DependsOnDatabaseInitialization
+    public OAuth2AuthorizationConsentService authorizationConsentService(
+            JdbcTemplate jdbcTemplate,
+            RegisteredClientRepository registeredClientRepository
+    ) {
+        return new JdbcOAuth2AuthorizationConsentService(jdbcTemplate, registeredClientRepository);
+    }
+
     @Bean
     public TokenSettings tokenSettings(){
         return TokenSettings.builder()
@@ -116,8 +168,11 @@ public class AuthorizationServerConfiguration {
     }
 
     @Bean
-    public OAuth2TokenCustomizer<JwtEncodingContext> oAuth2TokenCustomizer() {
+    public OAuth2TokenCustomizer<JwtEncodingContext> oAuth2TokenCustomizer(JwkRotativoSource jwkSource) {
         return context -> {
+            // com mais de uma chave publicada o encoder precisa do kid para escolher a que assina
+            context.getJwsHeader().keyId(jwkSource.kidAtual());
+
             var principal = context.getPrincipal();
 
             if(principal instanceof CustomAuthentication authentication){
@@ -126,11 +181,12 @@ public class AuthorizationServerConfiguration {
                 if(OAuth2TokenType.ACCESS_TOKEN.equals(tipoToken)){
                     context
                             .getClaims()
-                            .claim("authority", authentication.getUsuario().getPerfil() )
+                            .claim("id", authentication.getUsuario().getId().toString())
+                            .claim("authority", authentication.getUsuario().getPerfil().name())
                             .claim("email", authentication.getUsuario().getEmail())
                             .claim("nome", authentication.getUsuario().getNome())
                             .claim("funcao", authentication.getUsuario().getFuncao())
-                            .claim("statusUsuario", authentication.getUsuario().getStatusUsuario());
+                            .claim("statusUsuario", authentication.getUsuario().getStatusUsuario().name());
                 }
             }
         };
@@ -0,0 +1,44 @@
+package br.com.allservice.config;
+
+import br.com.allservice.util.TextoBusca;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Preenche as colunas *_BUSCA dos registros gravados antes delas existirem.
+ * Novos registros sao mantidos pelos @PrePersist/@PreUpdate das entidades.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BuscaNormalizadaInicializador implements ApplicationRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        preencher("empresa", "razao_social");
+        preencher("contato", "responsavel");
+        preencher("usuario", "nome");
+    }
+
+    private void preencher(String tabela, String coluna) {
+        String colunaBusca = coluna + "_busca";
+
+        List<Object[]> pendentes = jdbcTemplate.query(
+                "select id, " + coluna + " from " + tabela + " where " + colunaBusca + " is null",
+                (rs, linha) -> new Object[]{TextoBusca.normalizar(rs.getString(2)), rs.getObject(1)}
+        );
+
+        if (!pendentes.isEmpty()) {
+            jdbcTemplate.batchUpdate("update " + tabela + " set " + colunaBusca + " = ? where id = ?", pendentes);
+            log.info("{} registros de {} com {} preenchido", pendentes.size(), tabela, colunaBusca);
+        }
+    }
+}
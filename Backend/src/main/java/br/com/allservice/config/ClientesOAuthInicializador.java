@@ -0,0 +1,25 @@
+package br.com.allservice.config;
+
+import br.com.allservice.security.CustomRegisteredClientRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Carrega os clientes OAuth2 na subida para que o primeiro /oauth2/token
+ * nao dependa do banco.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClientesOAuthInicializador implements ApplicationRunner {
+
+    private final CustomRegisteredClientRepository registeredClientRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        log.info("{} clientes OAuth2 carregados", registeredClientRepository.recarregar());
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.allservice.config;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * DataSource que so entrega conexao a quem obtiver uma permissao do
+ * semaforo, liberada no close da conexao. Com virtual threads milhares de
+ * requisicoes podem chegar ao mesmo tempo; elas esperam estacionadas aqui,
+ * em ordem, em vez de disputar o pool.
+ * <p>
+ * Substitui o bean do pool, entao o close do desligamento chega aqui e e
+ * repassado ao pool envolvido.
+ */
+public class DataSourceLimitado extends DelegatingDataSource implements AutoCloseable {
+
+    private final Semaphore semaforo;
+    private final long timeoutMillis;
+
+    public DataSourceLimitado(DataSource dataSource, int permissoes, long timeoutMillis) {
+        super(dataSource);
+        this.semaforo = new Semaphore(permissoes, true);
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        adquirir();
+        try {
+            return liberandoNoClose(super.getConnection());
+        } catch (SQLException | RuntimeException e) {
+            semaforo.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        adquirir();
+        try {
+            return liberandoNoClose(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException e) {
+            semaforo.release();
+            throw e;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        if (getTargetDataSource() instanceof AutoCloseable pool) {
+            pool.close();
+        }
+    }
+
+    public int getAguardando() {
+        return semaforo.getQueueLength();
+    }
+
+    private void adquirir() throws SQLException {
+        try {
+            if (!semaforo.tryAcquire(timeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Nenhuma conexao liberada em " + timeoutMillis + "ms (" + semaforo.getQueueLength() + " aguardando)");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrompido aguardando conexao", e);
+        }
+    }
+
+    private Connection liberandoNoClose(Connection conexao) {
+        AtomicBoolean liberada = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, metodo, args) -> {
+                    if ("close".equals(metodo.getName()) && liberada.compareAndSet(false, true)) {
+                        semaforo.release();
+                    }
+                    try {
+                        return metodo.invoke(conexao, args);
+                    } catch (InvocationTargetException e) {
+                        throw e.getTargetException();
+                    }
+                });
+    }
+}
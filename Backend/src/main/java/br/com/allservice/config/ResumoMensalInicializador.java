@@ -0,0 +1,30 @@
+package br.com.allservice.config;
+
+import br.com.allservice.repository.ServicoRepository;
+import br.com.allservice.service.ServicoResumoMensalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.stereotype.Component;
+
+/**
+ * Monta o resumo mensal na primeira subida com servicos ja cadastrados.
+ * Depois disso ele e mantido por delta em cada gravacao de servico.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResumoMensalInicializador implements ApplicationRunner {
+
+    private final ServicoResumoMensalService resumoMensal;
+    private final ServicoRepository servicoRepository;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (resumoMensal.vazio() && servicoRepository.count() > 0) {
+            var resultado = resumoMensal.reconstruir().getBody();
+            log.info("Resumo mensal montado com {} grupos", resultado.grupos());
+        }
+    }
+}
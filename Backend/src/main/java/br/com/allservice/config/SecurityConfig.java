@@ -1,20 +1,20 @@
 package br.com.allservice.config;
 
+import br.com.allservice.enums.TipoPerfil;
 import br.com.allservice.security.LoginSocialSucessHandler;
 import br.com.allservice.service.impl.JwtCustomAutheticationFilterImpl;
-import com.nimbusds.jose.jwk.JWKSet;
-import com.nimbusds.jose.jwk.RSAKey;
-import com.nimbusds.jose.jwk.source.ImmutableJWKSet;
 import com.nimbusds.jose.jwk.source.JWKSource;
 import com.nimbusds.jose.proc.SecurityContext;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.annotation.Order;
 import org.springframework.security.config.Customizer;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configurers.AbstractHttpConfigurer;
 import org.springframework.security.config.core.GrantedAuthorityDefaults;
+import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.server.authorization.config.annotation.web.configuration.OAuth2AuthorizationServerConfiguration;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
@@ -23,17 +23,56 @@ import org.springframework.security.oauth2.server.resource.web.authentication.Be
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.web.cors.CorsConfigurationSource;
 
-import java.security.KeyPair;
-import java.security.KeyPairGenerator;
-import java.security.interfaces.RSAPrivateKey;
-import java.security.interfaces.RSAPublicKey;
-import java.util.UUID;
-
 @Configuration
 @EnableWebSecurity
 @EnableMethodSecurity(securedEnabled = true, jsr250Enabled = true)
 public class SecurityConfig {
 
+    /**
+     * Controllers REST: so Bearer token, sem sessao HTTP, para que chamadas de
+     * API nao criem HttpSession. Sem Basic aqui: cada requisicao Basic pagaria
+     * um BCrypt. Login e fluxos OAuth2 ficam na chain abaixo.
+     */
+    @Bean
+    @Order(2)
+    public SecurityFilterChain apiSecurityFilterChain(
+            HttpSecurity http,
+            JwtCustomAutheticationFilterImpl jwtFilter,
+            CorsConfigurationSource corsConfigurationSource
+    ) throws Exception {
+        return http
+                .securityMatcher("/servico/**", "/empresa/**", "/contato/**", "/usuario/**")
+                .cors(cors -> cors.configurationSource(corsConfigurationSource))
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(authorizeRequests -> authorizeRequests.anyRequest().permitAll())
+                .oauth2ResourceServer(oauth2ResourceServer -> oauth2ResourceServer.jwt(Customizer.withDefaults()))
+                .addFilterAfter(jwtFilter, BearerTokenAuthenticationFilter.class)
+                .build();
+    }
+
+    /**
+     * Actuator: health aberto, o resto (metrics, com estatisticas de Hibernate,
+     * pools e bloqueios de login) so com Bearer de MASTER ou ADMINISTRADOR.
+     */
+    @Bean
+    @Order(3)
+    public SecurityFilterChain actuatorSecurityFilterChain(
+            HttpSecurity http,
+            JwtCustomAutheticationFilterImpl jwtFilter
+    ) throws Exception {
+        return http
+                .securityMatcher("/actuator/**")
+                .csrf(AbstractHttpConfigurer::disable)
+                .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
+                .authorizeHttpRequests(authorizeRequests -> authorizeRequests
+                        .requestMatchers("/actuator/health/**").permitAll()
+                        .anyRequest().hasAnyAuthority(TipoPerfil.MASTER.name(), TipoPerfil.ADMINISTRADOR.name()))
+                .oauth2ResourceServer(oauth2ResourceServer -> oauth2ResourceServer.jwt(Customizer.withDefaults()))
+                .addFilterAfter(jwtFilter, BearerTokenAuthenticationFilter.class)
+                .build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(
             HttpSecurity http,
@@ -86,33 +125,6 @@ public class SecurityConfig {
         return converter;
     }
 
-    //JWK - JSON Web Key
-    @Bean
-    public JWKSource<SecurityContext> jwkSetSource() throws Exception {
-        RSAKey rsaKey = gerarChaveRSA();
-        JWKSet jwkSet = new JWKSet(rsaKey);
-
-        return new ImmutableJWKSet<>(jwkSet);
-    }
-
-    private RSAKey gerarChaveRSA() throws Exception {
-        KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
-        keyPairGenerator.initialize(2048);
-
-        KeyPair keyPair = keyPairGenerator.generateKeyPair();
-
-        RSAPublicKey chavePublica = (RSAPublicKey) keyPair.getPublic();
-        RSAPrivateKey chavePrivada = (RSAPrivateKey) keyPair.getPrivate();
-
-
-        return new RSAKey
-                .Builder(chavePublica)
-                .privateKey(chavePrivada)
-                .keyID(UUID.randomUUID().toString())
-                .build();
-
-    }
-
     @Bean
     public JwtDecoder jwtDecoder(JWKSource<SecurityContext> jwkSetSource) throws Exception {
         return OAuth2AuthorizationServerConfiguration.jwtDecoder(jwkSetSource);
@@ -0,0 +1,32 @@
+package br.com.allservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+/**
+ * Ativo no profile "virtual": envolve o pool do Hikari num DataSourceLimitado
+ * com uma permissao por conexao e o mesmo timeout de espera do pool.
+ */
+@Slf4j
+@Configuration
+@Profile("virtual")
+public class VirtualThreadsConfig {
+
+    @Bean
+    public static BeanPostProcessor dataSourceLimitadoPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari) {
+                    log.info("Acesso ao banco limitado a {} conexoes simultaneas", hikari.getMaximumPoolSize());
+                    return new DataSourceLimitado(hikari, hikari.getMaximumPoolSize(), hikari.getConnectionTimeout());
+                }
+                return bean;
+            }
+        };
+    }
+}
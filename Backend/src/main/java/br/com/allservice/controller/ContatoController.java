@@ -1,6 +1,9 @@
 package br.com.allservice.controller;
 
+import br.com.allservice.controller.dto.AlteracoesDTO;
 import br.com.allservice.controller.dto.ContatoDTO;
+import br.com.allservice.controller.dto.PaginaCursorDTO;
+import br.com.allservice.controller.dto.PaginaSliceDTO;
 import br.com.allservice.enums.TipoSetor;
 import br.com.allservice.service.ContatoService;
 import jakarta.validation.Valid;
@@ -45,6 +48,40 @@ public class ContatoController {
         );
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<PaginaCursorDTO<ContatoDTO>> filterCursor(
+            @RequestParam(value = "nome-empresa", required = false) String nomeEmpresa,
+            @RequestParam(value = "responsavel", required = false) String responsavel,
+            @RequestParam(value = "setor", required = false) TipoSetor setor,
+            @RequestParam(value = "telefone", required = false) String telefone,
+            @RequestParam(value = "email", required = false) String email,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "quantidade", defaultValue = "50") Integer quantidade
+    ) {
+        return service.filterCursor(nomeEmpresa, responsavel, setor, telefone, email, cursor, quantidade);
+    }
+
+    @GetMapping("/slice")
+    public ResponseEntity<PaginaSliceDTO<ContatoDTO>> filterSlice(
+            @RequestParam(value = "nome-empresa", required = false) String nomeEmpresa,
+            @RequestParam(value = "responsavel", required = false) String responsavel,
+            @RequestParam(value = "setor", required = false) TipoSetor setor,
+            @RequestParam(value = "telefone", required = false) String telefone,
+            @RequestParam(value = "email", required = false) String email,
+            @RequestParam(value = "pagina", defaultValue = "0") Integer pagina,
+            @RequestParam(value = "quantidade", defaultValue = "50") Integer quantidade
+    ) {
+        return service.filterSlice(nomeEmpresa, responsavel, setor, telefone, email, pagina, quantidade);
+    }
+
+    @GetMapping("/alteracoes")
+    public ResponseEntity<AlteracoesDTO<ContatoDTO>> alteracoes(
+            @RequestParam(value = "desde", required = false) String desde,
+            @RequestParam(value = "quantidade", defaultValue = "500") Integer quantidade
+    ) {
+        return service.alteracoes(desde, quantidade);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<ContatoDTO> findById(@PathVariable UUID id) {
         return service.findById(id);
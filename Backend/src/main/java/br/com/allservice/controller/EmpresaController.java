@@ -1,6 +1,9 @@
 package br.com.allservice.controller;
 
+import br.com.allservice.controller.dto.AlteracoesDTO;
 import br.com.allservice.controller.dto.EmpresaDTO;
+import br.com.allservice.controller.dto.PaginaCursorDTO;
+import br.com.allservice.controller.dto.PaginaSliceDTO;
 import br.com.allservice.service.EmpresaService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -9,6 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -33,6 +37,46 @@ public class EmpresaController {
         return service.filter(razaoSocial, cnpj, endereco, pagina, quantidade);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<PaginaCursorDTO<EmpresaDTO>> filterCursor(
+            @RequestParam(value = "razao-social", required = false) String razaoSocial,
+            @RequestParam(value = "cnpj", required = false) String cnpj,
+            @RequestParam(value = "endereco", required = false) String endereco,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "quantidade", defaultValue = "50") Integer quantidade
+    ) {
+        return service.filterCursor(razaoSocial, cnpj, endereco, cursor, quantidade);
+    }
+
+    @GetMapping("/slice")
+    public ResponseEntity<PaginaSliceDTO<EmpresaDTO>> filterSlice(
+            @RequestParam(value = "razao-social", required = false) String razaoSocial,
+            @RequestParam(value = "cnpj", required = false) String cnpj,
+            @RequestParam(value = "endereco", required = false) String endereco,
+            @RequestParam(value = "pagina", defaultValue = "0") Integer pagina,
+            @RequestParam(value = "quantidade", defaultValue = "50") Integer quantidade
+    ) {
+        return service.filterSlice(razaoSocial, cnpj, endereco, pagina, quantidade);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<Map<UUID, EmpresaDTO>> findAllById(@RequestParam("ids") List<UUID> ids) {
+        return service.findAllById(ids);
+    }
+
+    @PostMapping("/ids")
+    public ResponseEntity<Map<UUID, EmpresaDTO>> findAllByIdPost(@RequestBody List<UUID> ids) {
+        return service.findAllById(ids);
+    }
+
+    @GetMapping("/alteracoes")
+    public ResponseEntity<AlteracoesDTO<EmpresaDTO>> alteracoes(
+            @RequestParam(value = "desde", required = false) String desde,
+            @RequestParam(value = "quantidade", defaultValue = "500") Integer quantidade
+    ) {
+        return service.alteracoes(desde, quantidade);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<EmpresaDTO> findById(@PathVariable UUID id) {
         return service.findById(id);
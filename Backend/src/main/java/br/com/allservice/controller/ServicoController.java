@@ -1,18 +1,27 @@
 package br.com.allservice.controller;
 
+import br.com.allservice.controller.dto.AlteracoesDTO;
+import br.com.allservice.controller.dto.PaginaCursorDTO;
+import br.com.allservice.controller.dto.PaginaSliceDTO;
+import br.com.allservice.controller.dto.ResultadoLoteDTO;
 import br.com.allservice.controller.dto.ServicoDTO;
-import br.com.allservice.enums.StatusServico;
-import br.com.allservice.enums.TipoImposto;
-import br.com.allservice.enums.TipoPagamento;
+import br.com.allservice.controller.dto.ServicoEstatisticasDTO;
+import br.com.allservice.controller.dto.ServicoEventoDTO;
+import br.com.allservice.controller.dto.ServicoFiltroDTO;
+import br.com.allservice.controller.dto.ServicoResumoDTO;
 import br.com.allservice.service.ServicoService;
+import com.fasterxml.jackson.databind.JsonNode;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -27,35 +36,84 @@ public class ServicoController {
         return service.save(servico);
     }
 
+    @PostMapping("/lote")
+    public ResponseEntity<ResultadoLoteDTO> saveLote(@RequestBody List<ServicoDTO> servicos) {
+        return service.saveLote(servicos);
+    }
+
     @GetMapping
     public ResponseEntity<Page<ServicoDTO>> filter(
-            @RequestParam(value = "nota-fiscal", required = false) String notaFiscal,
-            @RequestParam(value = "mes-ano", required = false) String mesAno,
-            @RequestParam(value = "ano", required = false) String ano,
-            @RequestParam(value = "nome-empresa", required = false) String nomeEmpresa,
-            @RequestParam(value = "status", required = false) StatusServico status,
-            @RequestParam(value = "imposto", required = false) TipoImposto imposto,
-            @RequestParam(value = "tipo-pagamento", required = false) TipoPagamento tipoPagamento,
-            @RequestParam(value = "valor-total", required = false) BigDecimal valorTotal,
-            @RequestParam(value = "vencimento", required = false) LocalDate dataVencimento,
-            @RequestParam(value = "data", required = false) LocalDate data,
+            ServicoFiltroDTO filtro,
+            @RequestParam(value = "pagina", defaultValue = "0") Integer pagina,
+            @RequestParam(value = "quantidade", defaultValue = "50") Integer quantidade
+    ) {
+        return service.filter(filtro, pagina, quantidade);
+    }
+
+    @GetMapping(params = "fields")
+    public ResponseEntity<Page<Map<String, Object>>> filterCampos(
+            ServicoFiltroDTO filtro,
+            @RequestParam(value = "pagina", defaultValue = "0") Integer pagina,
+            @RequestParam(value = "quantidade", defaultValue = "50") Integer quantidade,
+            @RequestParam("fields") String fields
+    ) {
+        return service.filterCampos(filtro, pagina, quantidade, fields);
+    }
+
+    @GetMapping("/resumo")
+    public ResponseEntity<Page<ServicoResumoDTO>> filterResumo(
+            ServicoFiltroDTO filtro,
+            @RequestParam(value = "pagina", defaultValue = "0") Integer pagina,
+            @RequestParam(value = "quantidade", defaultValue = "50") Integer quantidade
+    ) {
+        return service.filterResumo(filtro, pagina, quantidade);
+    }
+
+    @GetMapping("/cursor")
+    public ResponseEntity<PaginaCursorDTO<ServicoDTO>> filterCursor(
+            ServicoFiltroDTO filtro,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "quantidade", defaultValue = "50") Integer quantidade
+    ) {
+        return service.filterCursor(filtro, cursor, quantidade);
+    }
+
+    @GetMapping("/slice")
+    public ResponseEntity<PaginaSliceDTO<ServicoDTO>> filterSlice(
+            ServicoFiltroDTO filtro,
             @RequestParam(value = "pagina", defaultValue = "0") Integer pagina,
             @RequestParam(value = "quantidade", defaultValue = "50") Integer quantidade
     ) {
-        return service.filter(
-                notaFiscal,
-                mesAno,
-                ano,
-                nomeEmpresa,
-                status,
-                imposto,
-                tipoPagamento,
-                valorTotal,
-                dataVencimento,
-                data,
-                pagina,
-                quantidade
-        );
+        return service.filterSlice(filtro, pagina, quantidade);
+    }
+
+    @GetMapping("/estatisticas")
+    public ResponseEntity<ServicoEstatisticasDTO> estatisticas(
+            ServicoFiltroDTO filtro,
+            @RequestParam(value = "referencia", required = false) String referencia
+    ) {
+        return service.estatisticas(filtro, referencia);
+    }
+
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportar(
+            ServicoFiltroDTO filtro,
+            @RequestParam(value = "formato", defaultValue = "csv") String formato
+    ) {
+        return service.exportar(filtro, formato);
+    }
+
+    @GetMapping(value = "/eventos", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> assinarEventos() {
+        return service.assinarEventos();
+    }
+
+    @GetMapping("/alteracoes")
+    public ResponseEntity<AlteracoesDTO<ServicoDTO>> alteracoes(
+            @RequestParam(value = "desde", required = false) String desde,
+            @RequestParam(value = "quantidade", defaultValue = "500") Integer quantidade
+    ) {
+        return service.alteracoes(desde, quantidade);
     }
 
     @GetMapping("/{id}")
@@ -63,11 +121,30 @@ public class ServicoController {
         return service.findById(id);
     }
 
+    @GetMapping(value = "/{id}", params = "fields")
+    public ResponseEntity<Map<String, Object>> findByIdCampos(@PathVariable UUID id, @RequestParam("fields") String fields) {
+        return service.findByIdCampos(id, fields);
+    }
+
+    @GetMapping("/{id}/eventos")
+    public ResponseEntity<Page<ServicoEventoDTO>> eventos(
+            @PathVariable UUID id,
+            @RequestParam(value = "pagina", defaultValue = "0") Integer pagina,
+            @RequestParam(value = "quantidade", defaultValue = "50") Integer quantidade
+    ) {
+        return service.eventos(id, pagina, quantidade);
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Object> update(@PathVariable UUID id, @RequestBody @Valid ServicoDTO servico) {
         return service.update(id, servico);
     }
 
+    @PatchMapping(value = "/{id}", consumes = {"application/merge-patch+json", MediaType.APPLICATION_JSON_VALUE})
+    public ResponseEntity<Object> patch(@PathVariable UUID id, @RequestBody JsonNode alteracoes) {
+        return service.patch(id, alteracoes);
+    }
+
     @DeleteMapping("/{id}")
     public ResponseEntity<Void> delete(@PathVariable UUID id) {
         return service.delete(id);
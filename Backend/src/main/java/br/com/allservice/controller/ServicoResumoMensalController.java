@@ -0,0 +1,33 @@
+package br.com.allservice.controller;
+
+import br.com.allservice.controller.dto.ReconstrucaoResumoMensalDTO;
+import br.com.allservice.controller.dto.ServicoResumoMensalDTO;
+import br.com.allservice.service.ServicoResumoMensalService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+@RestController
+@RequestMapping("/servico/resumo-mensal")
+@RequiredArgsConstructor
+public class ServicoResumoMensalController {
+
+    private final ServicoResumoMensalService service;
+
+    @GetMapping
+    public ResponseEntity<List<ServicoResumoMensalDTO>> listar(
+            @RequestParam(value = "inicio", required = false) String inicio,
+            @RequestParam(value = "fim", required = false) String fim
+    ) {
+        return service.listar(inicio, fim);
+    }
+
+    @PostMapping("/reconstruir")
+    @PreAuthorize("hasAnyAuthority('MASTER', 'ADMINISTRADOR')")
+    public ResponseEntity<ReconstrucaoResumoMensalDTO> reconstruir() {
+        return service.reconstruir();
+    }
+}
@@ -1,6 +1,9 @@
 package br.com.allservice.controller;
 
+import br.com.allservice.controller.dto.AlteracoesDTO;
 import br.com.allservice.controller.dto.UsuarioDTO;
+import br.com.allservice.controller.dto.PaginaCursorDTO;
+import br.com.allservice.controller.dto.PaginaSliceDTO;
 import br.com.allservice.enums.StatusUsuario;
 import br.com.allservice.enums.TipoPerfil;
 import br.com.allservice.service.UsuarioService;
@@ -10,6 +13,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -36,6 +41,48 @@ public class UsuarioController {
         return service.filter(nome, funcao, statusUsuario, perfil, pagina, quantidade);
     }
 
+    @GetMapping("/cursor")
+    public ResponseEntity<PaginaCursorDTO<UsuarioDTO>> filterCursor(
+            @RequestParam(value = "nome", required = false) String nome,
+            @RequestParam(value = "funcao", required = false) String funcao,
+            @RequestParam(value = "statusUsuario", required = false) StatusUsuario statusUsuario,
+            @RequestParam(value = "perfil", required = false) TipoPerfil perfil,
+            @RequestParam(value = "cursor", required = false) String cursor,
+            @RequestParam(value = "quantidade", defaultValue = "50") Integer quantidade
+    ) {
+        return service.filterCursor(nome, funcao, statusUsuario, perfil, cursor, quantidade);
+    }
+
+    @GetMapping("/slice")
+    public ResponseEntity<PaginaSliceDTO<UsuarioDTO>> filterSlice(
+            @RequestParam(value = "nome", required = false) String nome,
+            @RequestParam(value = "funcao", required = false) String funcao,
+            @RequestParam(value = "statusUsuario", required = false) StatusUsuario statusUsuario,
+            @RequestParam(value = "perfil", required = false) TipoPerfil perfil,
+            @RequestParam(value = "pagina", defaultValue = "0") Integer pagina,
+            @RequestParam(value = "quantidade", defaultValue = "50") Integer quantidade
+    ) {
+        return service.filterSlice(nome, funcao, statusUsuario, perfil, pagina, quantidade);
+    }
+
+    @GetMapping(params = "ids")
+    public ResponseEntity<Map<UUID, UsuarioDTO>> findAllById(@RequestParam("ids") List<UUID> ids) {
+        return service.findAllById(ids);
+    }
+
+    @PostMapping("/ids")
+    public ResponseEntity<Map<UUID, UsuarioDTO>> findAllByIdPost(@RequestBody List<UUID> ids) {
+        return service.findAllById(ids);
+    }
+
+    @GetMapping("/alteracoes")
+    public ResponseEntity<AlteracoesDTO<UsuarioDTO>> alteracoes(
+            @RequestParam(value = "desde", required = false) String desde,
+            @RequestParam(value = "quantidade", defaultValue = "500") Integer quantidade
+    ) {
+        return service.alteracoes(desde, quantidade);
+    }
+
     @GetMapping("/{id}")
     public ResponseEntity<UsuarioDTO> findById(@PathVariable UUID id) {
         return service.findById(id);
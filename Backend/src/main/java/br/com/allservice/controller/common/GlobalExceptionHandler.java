@@ -2,9 +2,13 @@ package br.com.allservice.controller.common;
 
 import br.com.allservice.controller.dto.ErroCampo;
 import br.com.allservice.controller.dto.ErroResposta;
+import br.com.allservice.execptions.ParametroInvalidoException;
 import br.com.allservice.execptions.RegistroDuplicadoException;
+import br.com.allservice.execptions.ServicoSobrecarregadoException;
 import io.swagger.v3.oas.annotations.Hidden;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.validation.FieldError;
@@ -12,7 +16,9 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -59,6 +65,31 @@ public class GlobalExceptionHandler {
         return ErroResposta.conflito(e.getMessage());
     }
 
+    @ExceptionHandler(ServicoSobrecarregadoException.class)
+    public ResponseEntity<ErroResposta> handleServicoSobrecarregado(ServicoSobrecarregadoException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new ErroResposta(HttpStatus.SERVICE_UNAVAILABLE.value(), e.getMessage(), List.of()));
+    }
+
+    @ExceptionHandler(DateTimeParseException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErroResposta handleDateTimeParseException(DateTimeParseException e) {
+        return ErroResposta.respostaPadrao("Data invalida: " + e.getParsedString());
+    }
+
+    @ExceptionHandler(ParametroInvalidoException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErroResposta handleParametroInvalido(ParametroInvalidoException e) {
+        return ErroResposta.respostaPadrao(e.getMessage());
+    }
+
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    @ResponseStatus(HttpStatus.BAD_REQUEST)
+    public ErroResposta handleMethodArgumentTypeMismatchException(MethodArgumentTypeMismatchException e) {
+        return ErroResposta.respostaPadrao("Parametro invalido: " + e.getName());
+    }
+
     @ExceptionHandler(Exception.class)
     @ResponseStatus(HttpStatus.INTERNAL_SERVER_ERROR)
     public ErroResposta handleGenericException(Exception e) {
@@ -0,0 +1,17 @@
+package br.com.allservice.controller.dto;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Resposta de /{entidade}/alteracoes: registros criados ou alterados e ids
+ * excluidos depois do token "desde". O cliente guarda "proximo" e chama de
+ * novo; com hasNext ainda ha alteracoes para buscar imediatamente.
+ */
+public record AlteracoesDTO<T>(
+        List<T> alterados,
+        List<UUID> excluidos,
+        boolean hasNext,
+        String proximo
+) {
+}
@@ -0,0 +1,23 @@
+package br.com.allservice.controller.dto;
+
+import java.util.UUID;
+
+/**
+ * Resultado de um item do lote, na mesma posicao ({@code indice}) em que foi enviado.
+ */
+public record ItemLoteDTO(
+        int indice,
+        String notaFiscal,
+        UUID id,
+        boolean criado,
+        String erro
+) {
+
+    public static ItemLoteDTO criado(int indice, String notaFiscal, UUID id) {
+        return new ItemLoteDTO(indice, notaFiscal, id, true, null);
+    }
+
+    public static ItemLoteDTO rejeitado(int indice, String notaFiscal, String erro) {
+        return new ItemLoteDTO(indice, notaFiscal, null, false, erro);
+    }
+}
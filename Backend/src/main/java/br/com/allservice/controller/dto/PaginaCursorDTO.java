@@ -0,0 +1,45 @@
+package br.com.allservice.controller.dto;
+
+import br.com.allservice.execptions.ParametroInvalidoException;
+import br.com.allservice.util.Cursor;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record PaginaCursorDTO<T>(
+        List<T> conteudo,
+        int quantidade,
+        boolean hasNext,
+        String next
+) {
+
+    public static final int QUANTIDADE_MAXIMA = 1000;
+
+    /**
+     * Quantidade efetiva da pagina: recusa valores menores que 1 e limita a
+     * QUANTIDADE_MAXIMA, para que quantidade + 1 nao estoure nem leia a tabela inteira.
+     */
+    public static int limitar(Integer quantidade) {
+        if (quantidade == null || quantidade < 1) {
+            throw new ParametroInvalidoException("quantidade deve ser maior que zero");
+        }
+        return Math.min(quantidade, QUANTIDADE_MAXIMA);
+    }
+
+    /**
+     * Monta a pagina a partir de uma consulta que buscou quantidade + 1 linhas:
+     * a linha extra apenas indica que existe proxima pagina.
+     */
+    public static <E, T> PaginaCursorDTO<T> of(
+            List<E> linhas,
+            int quantidade,
+            Function<E, Cursor> cursor,
+            Function<E, T> mapper
+    ) {
+        boolean hasNext = linhas.size() > quantidade;
+        List<E> pagina = hasNext ? linhas.subList(0, quantidade) : linhas;
+        String next = hasNext ? cursor.apply(pagina.get(pagina.size() - 1)).codificar() : null;
+
+        return new PaginaCursorDTO<>(pagina.stream().map(mapper).toList(), pagina.size(), hasNext, next);
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.allservice.controller.dto;
+
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.function.Function;
+
+public record PaginaSliceDTO<T>(
+        List<T> conteudo,
+        int pagina,
+        int quantidade,
+        boolean hasNext,
+        Long totalAproximado
+) {
+
+    public static <E, T> PaginaSliceDTO<T> of(Slice<E> slice, Function<E, T> mapper, Long totalAproximado) {
+        return new PaginaSliceDTO<>(
+                slice.map(mapper).getContent(),
+                slice.getNumber(),
+                slice.getNumberOfElements(),
+                slice.hasNext(),
+                totalAproximado
+        );
+    }
+}
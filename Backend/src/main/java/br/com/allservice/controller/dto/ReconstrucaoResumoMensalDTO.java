@@ -0,0 +1,14 @@
+package br.com.allservice.controller.dto;
+
+import java.util.List;
+
+/**
+ * Resultado da reconstrucao do resumo mensal: quantos grupos foram recalculados e
+ * quais estavam divergentes da tabela de servicos antes da reconstrucao.
+ */
+public record ReconstrucaoResumoMensalDTO(
+        int grupos,
+        int divergentes,
+        List<String> chavesDivergentes
+) {
+}
@@ -0,0 +1,16 @@
+package br.com.allservice.controller.dto;
+
+import java.util.List;
+
+public record ResultadoLoteDTO(
+        int recebidos,
+        int criados,
+        int rejeitados,
+        List<ItemLoteDTO> itens
+) {
+
+    public static ResultadoLoteDTO of(List<ItemLoteDTO> itens) {
+        int criados = (int) itens.stream().filter(ItemLoteDTO::criado).count();
+        return new ResultadoLoteDTO(itens.size(), criados, itens.size() - criados, itens);
+    }
+}
@@ -0,0 +1,21 @@
+package br.com.allservice.controller.dto;
+
+import java.math.BigDecimal;
+
+/**
+ * Totais de um grupo de servicos (mes, status, forma de pagamento ou empresa).
+ * {@code chave} identifica o grupo; {@code descricao} traz o rotulo legivel quando difere da chave.
+ */
+public record ServicoAgregadoDTO(
+        String chave,
+        String descricao,
+        long quantidade,
+        BigDecimal valorTotal,
+        BigDecimal valorImposto,
+        BigDecimal valorLiquido
+) {
+
+    public static ServicoAgregadoDTO vazio(String chave) {
+        return new ServicoAgregadoDTO(chave, chave, 0, BigDecimal.ZERO, BigDecimal.ZERO, BigDecimal.ZERO);
+    }
+}
@@ -0,0 +1,25 @@
+package br.com.allservice.controller.dto;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Indicadores do dashboard calculados no banco. As variacoes sao percentuais do
+ * periodo de referencia sobre o anterior e ficam nulas quando o anterior e zero.
+ * {@code anterior} usa os mesmos filtros com as datas recuadas um mes;
+ * {@code porEmpresa} traz as maiores empresas e um grupo "OUTRAS" com o resto.
+ */
+public record ServicoEstatisticasDTO(
+        String periodoReferencia,
+        String periodoAnterior,
+        ServicoAgregadoDTO atual,
+        ServicoAgregadoDTO anterior,
+        BigDecimal variacaoQuantidadePct,
+        BigDecimal variacaoValorTotalPct,
+        BigDecimal variacaoValorLiquidoPct,
+        List<ServicoAgregadoDTO> porMes,
+        List<ServicoAgregadoDTO> porStatus,
+        List<ServicoAgregadoDTO> porTipoPagamento,
+        List<ServicoAgregadoDTO> porEmpresa
+) {
+}
@@ -0,0 +1,19 @@
+package br.com.allservice.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ServicoEventoDTO(
+        UUID id,
+        UUID idServico,
+        String tipo,
+        String statusAnterior,
+        String statusNovo,
+        @JsonRawValue String alteracoes,
+        UUID idUsuario,
+        String login,
+        LocalDateTime dataEvento
+) {
+}
@@ -0,0 +1,65 @@
+package br.com.allservice.controller.dto;
+
+import br.com.allservice.enums.StatusServico;
+import br.com.allservice.enums.TipoImposto;
+import br.com.allservice.enums.TipoPagamento;
+import org.springframework.web.bind.annotation.BindParam;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.stream.Stream;
+
+/**
+ * Filtros do /servico, compartilhados pelos endpoints de listagem.
+ */
+public record ServicoFiltroDTO(
+        @BindParam("nota-fiscal") String notaFiscal,
+        @BindParam("mes-ano") String mesAno,
+        String ano,
+        @BindParam("nome-empresa") String nomeEmpresa,
+        StatusServico status,
+        TipoImposto imposto,
+        @BindParam("tipo-pagamento") TipoPagamento tipoPagamento,
+        @BindParam("valor-total") BigDecimal valorTotal,
+        @BindParam("vencimento") LocalDate dataVencimento,
+        LocalDate data,
+        @BindParam("data-inicio") LocalDate dataInicio,
+        @BindParam("data-fim") LocalDate dataFim,
+        @BindParam("vencimento-inicio") LocalDate vencimentoInicio,
+        @BindParam("vencimento-fim") LocalDate vencimentoFim,
+        @BindParam("valor-min") BigDecimal valorMin,
+        @BindParam("valor-max") BigDecimal valorMax
+) {
+
+    /**
+     * O mesmo filtro um mes antes, para o periodo anterior das estatisticas: data e
+     * intervalo de datas recuam um mes; mes-ano e ano saem e o chamador aplica o mes.
+     * Um fim de intervalo no ultimo dia do mes vai para o ultimo dia do mes anterior
+     * (30/06 vira 31/05, nao 30/05).
+     */
+    public ServicoFiltroDTO recuadoUmMes() {
+        return new ServicoFiltroDTO(
+                notaFiscal, null, null, nomeEmpresa, status, imposto, tipoPagamento, valorTotal, dataVencimento,
+                menosUmMes(data), menosUmMes(dataInicio), fimMenosUmMes(dataFim),
+                vencimentoInicio, vencimentoFim, valorMin, valorMax);
+    }
+
+    public boolean vazio() {
+        return Stream.of(
+                notaFiscal, mesAno, ano, nomeEmpresa, status, imposto, tipoPagamento, valorTotal, dataVencimento,
+                data, dataInicio, dataFim, vencimentoInicio, vencimentoFim, valorMin, valorMax
+        ).allMatch(valor -> valor == null || valor instanceof String texto && texto.isBlank());
+    }
+
+    private static LocalDate menosUmMes(LocalDate data) {
+        return data == null ? null : data.minusMonths(1);
+    }
+
+    private static LocalDate fimMenosUmMes(LocalDate data) {
+        if (data == null || !data.equals(YearMonth.from(data).atEndOfMonth())) {
+            return menosUmMes(data);
+        }
+        return YearMonth.from(data).minusMonths(1).atEndOfMonth();
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.allservice.controller.dto;
+
+import com.fasterxml.jackson.annotation.JsonRawValue;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ServicoNotificacaoDTO(
+        UUID idServico,
+        String tipo,
+        String statusAnterior,
+        String statusNovo,
+        @JsonRawValue String alteracoes,
+        String login,
+        LocalDateTime dataEvento
+) {
+}
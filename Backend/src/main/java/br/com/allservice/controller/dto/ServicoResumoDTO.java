@@ -0,0 +1,27 @@
+package br.com.allservice.controller.dto;
+
+import br.com.allservice.enums.StatusServico;
+import br.com.allservice.enums.TipoPagamento;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Linha da listagem de servicos: apenas as colunas exibidas no grid, selecionadas
+ * direto do banco sem materializar a entidade. O {@link ServicoDTO} completo fica
+ * para o detalhe.
+ */
+public record ServicoResumoDTO(
+        UUID id,
+        LocalDate data,
+        String notaFiscal,
+        UUID idEmpresa,
+        String razaoSocial,
+        BigDecimal valorTotal,
+        BigDecimal valorLiquido,
+        TipoPagamento tipoPagamento,
+        StatusServico status,
+        LocalDate dataVencimento
+) {
+}
@@ -0,0 +1,15 @@
+package br.com.allservice.controller.dto;
+
+import java.math.BigDecimal;
+
+public record ServicoResumoMensalDTO(
+        String mes,
+        String status,
+        String imposto,
+        String tipoPagamento,
+        long quantidade,
+        BigDecimal valorTotal,
+        BigDecimal valorImposto,
+        BigDecimal valorLiquido
+) {
+}
@@ -17,5 +17,8 @@ public abstract class ContatoMapper {
     @Mapping(target = "usuario", expression = "java(repository.usuarioRepository.findById(UUID.fromString(dto.idUsuario())).orElse(null) )")
     @Mapping(target = "empresa", expression = "java(repository.empresaRepository.findById(UUID.fromString(dto.idEmpresa())).orElse(null) )")
     public abstract Contato toEntity(ContatoDTO dto);
+
+    @Mapping(source = "empresa.id", target = "idEmpresa")
+    @Mapping(source = "usuario.id", target = "idUsuario")
     public abstract ContatoDTO toDto(Contato contato);
 }
@@ -15,5 +15,7 @@ public abstract class EmpresaMapper {
 
     @Mapping(target = "usuario", expression = "java(repository.usuarioRepository.findById(UUID.fromString(dto.idUsuario())).orElse(null) )")
     public abstract Empresa toEntity(EmpresaDTO dto);
+
+    @Mapping(source = "usuario.id", target = "idUsuario")
     public abstract EmpresaDTO toDto(Empresa empresa);
 }
@@ -0,0 +1,14 @@
+package br.com.allservice.controller.mappers;
+
+import br.com.allservice.controller.dto.ServicoEventoDTO;
+import br.com.allservice.controller.dto.ServicoNotificacaoDTO;
+import br.com.allservice.domain.ServicoEvento;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public abstract class ServicoEventoMapper {
+
+    public abstract ServicoEventoDTO toDto(ServicoEvento evento);
+
+    public abstract ServicoNotificacaoDTO toNotificacao(ServicoEvento evento);
+}
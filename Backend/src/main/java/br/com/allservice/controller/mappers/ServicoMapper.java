@@ -5,8 +5,12 @@ import br.com.allservice.domain.Servico;
 import br.com.allservice.repository.RepositoryFacade;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
+import org.mapstruct.MappingTarget;
 import org.springframework.beans.factory.annotation.Autowired;
 
+import java.util.Objects;
+import java.util.UUID;
+
 @Mapper(componentModel = "spring", uses = { UsuarioMapper.class, EmpresaMapper.class })
 public abstract class  ServicoMapper {
 
@@ -17,7 +21,51 @@ public abstract class  ServicoMapper {
     @Mapping(target = "empresa", expression = "java(repository.empresaRepository.findById(UUID.fromString(dto.idEmpresa())).orElse(null) )")
     public abstract Servico toEntity(ServicoDTO dto);
 
+    /**
+     * Para gravacao em lote: empresa e usuario sao resolvidos pelo chamador em uma unica consulta.
+     */
+    @Mapping(target = "usuario", ignore = true)
+    @Mapping(target = "empresa", ignore = true)
+    public abstract Servico toEntitySemRelacionamentos(ServicoDTO dto);
+
+    @Mapping(source = "empresa.id", target = "idEmpresa")
+    @Mapping(source = "usuario.id", target = "idUsuario")
     @Mapping(source = "empresa", target = "empresaDTO")
     @Mapping(source = "usuario", target = "usuarioDTO")
     public abstract ServicoDTO toDto(Servico servico);
+
+    /**
+     * Estado atual para o PATCH, sem carregar empresa e usuario.
+     */
+    @Mapping(source = "empresa.id", target = "idEmpresa")
+    @Mapping(source = "usuario.id", target = "idUsuario")
+    @Mapping(target = "empresaDTO", ignore = true)
+    @Mapping(target = "usuarioDTO", ignore = true)
+    public abstract ServicoDTO toDtoSemRelacionamentos(Servico servico);
+
+    /**
+     * Copia o DTO sobre a entidade gerenciada, preservando id, datas de auditoria
+     * e as colunas de alteracao; empresa e usuario so sao buscados quando o id muda.
+     */
+    public void atualizar(ServicoDTO dto, Servico servico) {
+        copiarCampos(dto, servico);
+
+        UUID idEmpresa = UUID.fromString(dto.idEmpresa());
+        if (servico.getEmpresa() == null || !Objects.equals(servico.getEmpresa().getId(), idEmpresa)) {
+            servico.setEmpresa(repository.empresaRepository.findById(idEmpresa).orElse(null));
+        }
+        UUID idUsuario = UUID.fromString(dto.idUsuario());
+        if (servico.getUsuario() == null || !Objects.equals(servico.getUsuario().getId(), idUsuario)) {
+            servico.setUsuario(repository.usuarioRepository.findById(idUsuario).orElse(null));
+        }
+    }
+
+    @Mapping(target = "id", ignore = true)
+    @Mapping(target = "usuario", ignore = true)
+    @Mapping(target = "empresa", ignore = true)
+    @Mapping(target = "dataCriacao", ignore = true)
+    @Mapping(target = "dataAtualizacao", ignore = true)
+    @Mapping(target = "seqAlteracao", ignore = true)
+    @Mapping(target = "xidAlteracao", ignore = true)
+    protected abstract void copiarCampos(ServicoDTO dto, @MappingTarget Servico servico);
 }
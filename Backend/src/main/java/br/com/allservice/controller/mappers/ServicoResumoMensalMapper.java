@@ -0,0 +1,13 @@
+package br.com.allservice.controller.mappers;
+
+import br.com.allservice.controller.dto.ServicoResumoMensalDTO;
+import br.com.allservice.domain.ServicoResumoMensal;
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+
+@Mapper(componentModel = "spring")
+public abstract class ServicoResumoMensalMapper {
+
+    @Mapping(source = "mes", target = "mes", dateFormat = "yyyy-MM")
+    public abstract ServicoResumoMensalDTO toDto(ServicoResumoMensal resumo);
+}
@@ -0,0 +1,40 @@
+package br.com.allservice.domain;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Par de chaves RSA usado para assinar os JWT. Compartilhado entre as
+ * instancias pelo banco; a mais recente assina e as anteriores continuam
+ * publicadas em /oauth2/jwks ate DATA_EXPIRACAO.
+ */
+@Entity
+@Table(indexes = @Index(name = "IDX_CHAVE_JWK_DATA_EXPIRACAO", columnList = "DATA_EXPIRACAO"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ChaveJwk {
+
+    @Id
+    @Column(name = "KID", length = 36)
+    private String kid;
+
+    @Column(name = "CHAVE_PUBLICA", length = 1000, nullable = false)
+    private String chavePublica;
+
+    @Column(name = "CHAVE_PRIVADA", length = 4000, nullable = false)
+    private String chavePrivada;
+
+    @Column(name = "DATA_CRIACAO", nullable = false)
+    private LocalDateTime dataCriacao;
+
+    /** Nulo enquanto a chave e a atual; preenchido quando ela e substituida. */
+    @Column(name = "DATA_EXPIRACAO")
+    private LocalDateTime dataExpiracao;
+}
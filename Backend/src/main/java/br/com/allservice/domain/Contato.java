@@ -1,6 +1,7 @@
 package br.com.allservice.domain;
 
 import br.com.allservice.enums.TipoSetor;
+import br.com.allservice.util.TextoBusca;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -15,13 +16,16 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table
+@Table(indexes = {
+        @Index(name = "IDX_CONTATO_DATA_CRIACAO", columnList = "DATA_CRIACAO, ID"),
+        @Index(name = "IDX_CONTATO_ALTERACAO", columnList = "XID_ALTERACAO, SEQ_ALTERACAO")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
 @EntityListeners(AuditingEntityListener.class)
-public class Contato implements Serializable {
+public class Contato implements Serializable, Sincronizavel {
 
     private static final long serialVersionUID = 1L;
 
@@ -37,6 +41,9 @@ public class Contato implements Serializable {
     @Column(name = "RESPONSAVEL", length = 100, nullable = false)
     private String responsavel;
 
+    @Column(name = "RESPONSAVEL_BUSCA", length = 100)
+    private String responsavelBusca;
+
     @Enumerated(EnumType.STRING)
     @Column(name = "SETOR", length = 100, nullable = false)
     private TipoSetor setor;
@@ -62,4 +69,15 @@ public class Contato implements Serializable {
     @Column(name = "DATA_ATUALIZACAO", nullable = false)
     private LocalDateTime dataAtualizacao;
 
+    @Column(name = "SEQ_ALTERACAO", insertable = false, updatable = false)
+    private Long seqAlteracao;
+
+    @Column(name = "XID_ALTERACAO", insertable = false, updatable = false)
+    private Long xidAlteracao;
+
+    @PrePersist
+    @PreUpdate
+    void atualizarBusca() {
+        this.responsavelBusca = TextoBusca.normalizar(this.responsavel);
+    }
 }
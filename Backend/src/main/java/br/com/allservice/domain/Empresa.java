@@ -1,11 +1,14 @@
 package br.com.allservice.domain;
 
 import com.fasterxml.jackson.annotation.JsonManagedReference;
+import br.com.allservice.util.TextoBusca;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,13 +19,17 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table
+@Table(indexes = {
+        @Index(name = "IDX_EMPRESA_DATA_CRIACAO", columnList = "DATA_CRIACAO, ID"),
+        @Index(name = "IDX_EMPRESA_ALTERACAO", columnList = "XID_ALTERACAO, SEQ_ALTERACAO")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "empresa")
 @EntityListeners(AuditingEntityListener.class)
-public class Empresa implements Serializable {
+public class Empresa implements Serializable, Sincronizavel {
 
     private static final long serialVersionUID = 1L;
 
@@ -34,6 +41,9 @@ public class Empresa implements Serializable {
     @Column(name = "RAZAO_SOCIAL", length = 160, nullable = false)
     private String razaoSocial;
 
+    @Column(name = "RAZAO_SOCIAL_BUSCA", length = 160)
+    private String razaoSocialBusca;
+
     @Column(name = "CNPJ", length = 20, nullable = false, unique = true)
     private String cnpj;
 
@@ -60,4 +70,16 @@ public class Empresa implements Serializable {
     @LastModifiedDate
     @Column(name = "DATA_ATUALIZACAO", nullable = false)
     private LocalDateTime dataAtualizacao;
+
+    @Column(name = "SEQ_ALTERACAO", insertable = false, updatable = false)
+    private Long seqAlteracao;
+
+    @Column(name = "XID_ALTERACAO", insertable = false, updatable = false)
+    private Long xidAlteracao;
+
+    @PrePersist
+    @PreUpdate
+    void atualizarBusca() {
+        this.razaoSocialBusca = TextoBusca.normalizar(this.razaoSocial);
+    }
 }
@@ -0,0 +1,55 @@
+package br.com.allservice.domain;
+
+import br.com.allservice.enums.TipoEntidade;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Lapide de um registro excluido, para que /{entidade}/alteracoes avise os
+ * clientes. O SEQ vem da mesma sequence das alteracoes e o XID da transacao
+ * e gravado por trigger, entao exclusoes e gravacoes ficam numa unica ordem.
+ */
+@Entity
+@Table(indexes = @Index(name = "IDX_REGISTRO_EXCLUIDO_ALTERACAO", columnList = "ENTIDADE, XID_ALTERACAO, SEQ"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RegistroExcluido implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "alteracao_seq")
+    @SequenceGenerator(name = "alteracao_seq", sequenceName = "ALTERACAO_SEQ", allocationSize = 1)
+    @Column(name = "SEQ")
+    private Long seq;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "ENTIDADE", length = 10, nullable = false)
+    private TipoEntidade entidade;
+
+    @Column(name = "ID_REGISTRO", nullable = false)
+    private UUID idRegistro;
+
+    @Column(name = "DATA_EXCLUSAO", nullable = false)
+    private LocalDateTime dataExclusao;
+
+    @Column(name = "XID_ALTERACAO", insertable = false, updatable = false)
+    private Long xidAlteracao;
+
+    public static RegistroExcluido de(TipoEntidade entidade, UUID idRegistro) {
+        return RegistroExcluido.builder()
+                .entidade(entidade)
+                .idRegistro(idRegistro)
+                .dataExclusao(LocalDateTime.now())
+                .build();
+    }
+}
@@ -9,6 +9,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.DynamicUpdate;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -20,13 +21,19 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table
+@Table(indexes = {
+        @Index(name = "IDX_SERVICO_DATA_ID", columnList = "DATA, ID"),
+        @Index(name = "IDX_SERVICO_DATA_VENCIMENTO", columnList = "DATA_VENCIMENTO"),
+        @Index(name = "IDX_SERVICO_VALOR_TOTAL", columnList = "VALOR_TOTAL"),
+        @Index(name = "IDX_SERVICO_ALTERACAO", columnList = "XID_ALTERACAO, SEQ_ALTERACAO")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@DynamicUpdate
 @EntityListeners(AuditingEntityListener.class)
-public class Servico implements Serializable {
+public class Servico implements Serializable, Sincronizavel {
 
     private static final long serialVersionUID = 1L;
 
@@ -138,6 +145,12 @@ public class Servico implements Serializable {
     @Column(name = "DATA_ATUALIZACAO", nullable = false)
     private LocalDateTime dataAtualizacao;
 
+    @Column(name = "SEQ_ALTERACAO", insertable = false, updatable = false)
+    private Long seqAlteracao;
+
+    @Column(name = "XID_ALTERACAO", insertable = false, updatable = false)
+    private Long xidAlteracao;
+
     //private Usuario vendedor;
 //    @Column(name = "VENDENDOR")
 //    private String vendedor;
@@ -0,0 +1,61 @@
+package br.com.allservice.domain;
+
+import br.com.allservice.enums.StatusServico;
+import br.com.allservice.enums.TipoEventoServico;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Historico de alteracoes de um {@link Servico}. So recebe inserts; o
+ * ID_SERVICO nao e chave estrangeira para que o historico sobreviva a exclusao.
+ * ALTERACOES guarda o diff em JSON: {"campo": {"de": ..., "para": ...}}.
+ */
+@Entity
+@Table(indexes = @Index(name = "IDX_SERVICO_EVENTO_SERVICO_DATA", columnList = "ID_SERVICO, DATA_EVENTO"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ServicoEvento implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    @Column(name = "ID")
+    private UUID id;
+
+    @Column(name = "ID_SERVICO", nullable = false)
+    private UUID idServico;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "TIPO", length = 10, nullable = false)
+    private TipoEventoServico tipo;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS_ANTERIOR", length = 20)
+    private StatusServico statusAnterior;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS_NOVO", length = 20)
+    private StatusServico statusNovo;
+
+    @Column(name = "ALTERACOES", length = 8000)
+    private String alteracoes;
+
+    @Column(name = "ID_USUARIO")
+    private UUID idUsuario;
+
+    @Column(name = "LOGIN", length = 100)
+    private String login;
+
+    @Column(name = "DATA_EVENTO", nullable = false)
+    private LocalDateTime dataEvento;
+}
@@ -0,0 +1,72 @@
+package br.com.allservice.domain;
+
+import br.com.allservice.enums.StatusServico;
+import br.com.allservice.enums.TipoImposto;
+import br.com.allservice.enums.TipoPagamento;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+
+/**
+ * Totais mensais de servicos por status, imposto e forma de pagamento.
+ * Mantido por delta a cada gravacao de {@link Servico}; a chave natural
+ * concatena as dimensoes para que cada grupo tenha uma unica linha.
+ */
+@Entity
+@Table(indexes = @Index(name = "IDX_SERVICO_RESUMO_MENSAL_MES", columnList = "MES"))
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ServicoResumoMensal implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String SEM_VALOR = "-";
+
+    @Id
+    @Column(name = "CHAVE", length = 60)
+    private String chave;
+
+    @Column(name = "MES", nullable = false)
+    private LocalDate mes;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "STATUS", length = 20)
+    private StatusServico status;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "IMPOSTO", length = 13)
+    private TipoImposto imposto;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "TIPO_PAGAMENTO", length = 10)
+    private TipoPagamento tipoPagamento;
+
+    @Column(name = "QUANTIDADE", nullable = false)
+    private long quantidade;
+
+    @Column(name = "VALOR_TOTAL", precision = 14, scale = 2, nullable = false)
+    private BigDecimal valorTotal;
+
+    @Column(name = "VALOR_IMPOSTO", precision = 14, scale = 2, nullable = false)
+    private BigDecimal valorImposto;
+
+    @Column(name = "VALOR_LIQUIDO", precision = 14, scale = 2, nullable = false)
+    private BigDecimal valorLiquido;
+
+    public static String chave(YearMonth mes, StatusServico status, TipoImposto imposto, TipoPagamento tipoPagamento) {
+        return String.join("|", mes.toString(), nome(status), nome(imposto), nome(tipoPagamento));
+    }
+
+    private static String nome(Enum<?> valor) {
+        return valor == null ? SEM_VALOR : valor.name();
+    }
+}
@@ -0,0 +1,17 @@
+package br.com.allservice.domain;
+
+import java.util.UUID;
+
+/**
+ * Entidade exposta em /{entidade}/alteracoes. SEQ_ALTERACAO e XID_ALTERACAO
+ * sao preenchidos por trigger no banco a cada insert ou update (veja
+ * schema-postgresql.sql); a aplicacao nunca grava essas colunas.
+ */
+public interface Sincronizavel {
+
+    UUID getId();
+
+    Long getSeqAlteracao();
+
+    Long getXidAlteracao();
+}
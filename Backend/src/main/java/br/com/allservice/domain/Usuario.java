@@ -2,11 +2,14 @@ package br.com.allservice.domain;
 
 import br.com.allservice.enums.StatusUsuario;
 import br.com.allservice.enums.TipoPerfil;
+import br.com.allservice.util.TextoBusca;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -16,13 +19,17 @@ import java.time.LocalDateTime;
 import java.util.UUID;
 
 @Entity
-@Table
+@Table(indexes = {
+        @Index(name = "IDX_USUARIO_DATA_CRIACAO", columnList = "DATA_CRIACAO, ID"),
+        @Index(name = "IDX_USUARIO_ALTERACAO", columnList = "XID_ALTERACAO, SEQ_ALTERACAO")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "usuario")
 @EntityListeners(AuditingEntityListener.class)
-public class Usuario implements Serializable {
+public class Usuario implements Serializable, Sincronizavel {
 
     private static final long serialVersionUID = 1L;
 
@@ -34,6 +41,9 @@ public class Usuario implements Serializable {
     @Column(name = "NOME", length = 120, nullable = false)
     private String nome;
 
+    @Column(name = "NOME_BUSCA", length = 120)
+    private String nomeBusca;
+
     @Column(name = "FUNCAO", length = 60, nullable = false)
     private String funcao;
 
@@ -63,5 +73,15 @@ public class Usuario implements Serializable {
     @Column(name = "DATA_ATUALIZACAO", nullable = false)
     private LocalDateTime dataAtualizacao;
 
+    @Column(name = "SEQ_ALTERACAO", insertable = false, updatable = false)
+    private Long seqAlteracao;
+
+    @Column(name = "XID_ALTERACAO", insertable = false, updatable = false)
+    private Long xidAlteracao;
 
+    @PrePersist
+    @PreUpdate
+    void atualizarBusca() {
+        this.nomeBusca = TextoBusca.normalizar(this.nome);
+    }
 }
@@ -0,0 +1,8 @@
+package br.com.allservice.enums;
+
+public enum TipoEntidade {
+    SERVICO,
+    EMPRESA,
+    CONTATO,
+    USUARIO
+}
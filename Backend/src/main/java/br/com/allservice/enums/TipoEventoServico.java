@@ -0,0 +1,7 @@
+package br.com.allservice.enums;
+
+public enum TipoEventoServico {
+    CRIACAO,
+    ALTERACAO,
+    EXCLUSAO
+}
@@ -0,0 +1,9 @@
+package br.com.allservice.execptions;
+
+import org.springframework.security.core.AuthenticationException;
+
+public class LoginBloqueadoException extends AuthenticationException {
+    public LoginBloqueadoException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,10 @@
+package br.com.allservice.execptions;
+
+/**
+ * Parametro da requisicao recusado (cursor, token, limite, campo); vira 400 com a mensagem.
+ */
+public class ParametroInvalidoException extends RuntimeException {
+    public ParametroInvalidoException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package br.com.allservice.execptions;
+
+public class ServicoSobrecarregadoException extends RuntimeException {
+    public ServicoSobrecarregadoException(String message) {
+        super(message);
+    }
+}
@@ -1,11 +1,15 @@
 package br.com.allservice.repository;
 
 import br.com.allservice.domain.AppCliente;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.UUID;
 
 public interface AppClienteRepository extends JpaRepository<AppCliente, UUID> {
 
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     AppCliente findByClientId(String clientId);
 }
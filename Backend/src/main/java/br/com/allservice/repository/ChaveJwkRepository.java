@@ -0,0 +1,43 @@
+package br.com.allservice.repository;
+
+import br.com.allservice.domain.ChaveJwk;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface ChaveJwkRepository extends JpaRepository<ChaveJwk, String> {
+
+    @Query("""
+            select c from ChaveJwk c
+             where c.dataExpiracao is null or c.dataExpiracao > :agora
+             order by c.dataCriacao desc
+            """)
+    List<ChaveJwk> findPublicadas(@Param("agora") LocalDateTime agora);
+
+    /**
+     * Trava a chave mais recente ate o fim da transacao; serializa a rotacao entre instancias.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ChaveJwk> findFirstByOrderByDataCriacaoDesc();
+
+    /**
+     * Marca a expiracao de todas as chaves ainda em uso, exceto a nova.
+     */
+    @Transactional
+    @Modifying
+    @Query("update ChaveJwk c set c.dataExpiracao = :expiracao where c.dataExpiracao is null and c.kid <> :kidNova")
+    int expirarAnteriores(@Param("kidNova") String kidNova, @Param("expiracao") LocalDateTime expiracao);
+
+    @Transactional
+    @Modifying
+    @Query("delete from ChaveJwk c where c.dataExpiracao <= :agora")
+    int removerExpiradas(@Param("agora") LocalDateTime agora);
+}
@@ -1,12 +1,16 @@
 package br.com.allservice.repository;
 
 import br.com.allservice.domain.Empresa;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 import java.util.Optional;
 import java.util.UUID;
 
 public interface EmpresaRepository extends JpaRepository<Empresa, UUID> , JpaSpecificationExecutor<Empresa> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Empresa> findByCnpjOrRazaoSocial(String cnpj, String razaoSocial);
 }
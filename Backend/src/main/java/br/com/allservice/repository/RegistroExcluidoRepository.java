@@ -0,0 +1,33 @@
+package br.com.allservice.repository;
+
+import br.com.allservice.domain.RegistroExcluido;
+import br.com.allservice.enums.TipoEntidade;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface RegistroExcluidoRepository extends JpaRepository<RegistroExcluido, Long> {
+
+    List<RegistroExcluido> findByEntidadeAndDataExclusaoAfter(TipoEntidade entidade, LocalDateTime data);
+
+    /**
+     * Lapides depois da marca (xid, seq) cuja transacao ja terminou antes de {@code horizonte}.
+     */
+    @Query("""
+            select r from RegistroExcluido r
+            where r.entidade = :entidade
+              and r.xidAlteracao < :horizonte
+              and (r.xidAlteracao > :xid or (r.xidAlteracao = :xid and r.seq > :seq))
+            order by r.xidAlteracao, r.seq
+            """)
+    List<RegistroExcluido> findPosteriores(
+            @Param("entidade") TipoEntidade entidade,
+            @Param("xid") long xid,
+            @Param("seq") long seq,
+            @Param("horizonte") long horizonte,
+            Limit limite);
+}
@@ -12,4 +12,8 @@ public class RepositoryFacade {
     public final EmpresaRepository empresaRepository;
     public final ContatoRepository contatoRepository;
     public final AppClienteRepository appClienteRepository;
+    public final ServicoResumoMensalRepository servicoResumoMensalRepository;
+    public final ChaveJwkRepository chaveJwkRepository;
+    public final ServicoEventoRepository servicoEventoRepository;
+    public final RegistroExcluidoRepository registroExcluidoRepository;
 }
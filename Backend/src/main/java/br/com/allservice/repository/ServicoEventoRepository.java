@@ -0,0 +1,13 @@
+package br.com.allservice.repository;
+
+import br.com.allservice.domain.ServicoEvento;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.UUID;
+
+public interface ServicoEventoRepository extends JpaRepository<ServicoEvento, UUID> {
+
+    Page<ServicoEvento> findByIdServicoOrderByDataEventoDescIdDesc(UUID idServico, Pageable pageable);
+}
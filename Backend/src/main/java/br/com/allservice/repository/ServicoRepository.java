@@ -1,15 +1,39 @@
 package br.com.allservice.repository;
 
 import br.com.allservice.domain.Servico;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.Date;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
-public interface ServicoRepository extends JpaRepository<Servico, UUID>, JpaSpecificationExecutor<Servico> {
+public interface ServicoRepository extends JpaRepository<Servico, UUID>, JpaSpecificationExecutor<Servico>, ServicoRepositoryCustom {
+
+    /**
+     * Associacoes lidas pelo ServicoMapper.toDto; carregadas no mesmo SELECT para evitar N+1.
+     */
+    String[] GRAFO_DTO = {"empresa", "usuario"};
+
     List<Servico> findByDataBetween(Date dataInicio, Date dataFim);
     Optional<Servico> findByNotaFiscal(String notaFiscal);
+
+    @Query("select s.notaFiscal from Servico s where s.notaFiscal in :notasFiscais")
+    Set<String> findNotasFiscaisExistentes(@Param("notasFiscais") Collection<String> notasFiscais);
+
+    @Override
+    @EntityGraph(attributePaths = {"empresa", "usuario"})
+    Page<Servico> findAll(Specification<Servico> spec, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"empresa", "usuario"})
+    Optional<Servico> findComRelacionamentosById(UUID id);
 }
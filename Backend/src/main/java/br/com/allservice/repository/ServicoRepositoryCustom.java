@@ -0,0 +1,67 @@
+package br.com.allservice.repository;
+
+import br.com.allservice.controller.dto.ServicoAgregadoDTO;
+import br.com.allservice.controller.dto.ServicoResumoDTO;
+import br.com.allservice.domain.Servico;
+import br.com.allservice.domain.ServicoResumoMensal;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+public interface ServicoRepositoryCustom {
+
+    Page<ServicoResumoDTO> findResumos(Specification<Servico> spec, Pageable pageable);
+
+    /**
+     * Seleciona somente os campos pedidos, com os mesmos nomes do ServicoDTO; campos da empresa
+     * usam o caminho pontuado (empresaDTO.razaoSocial) e voltam aninhados. O id sempre e incluido.
+     */
+    Page<Map<String, Object>> findCampos(Specification<Servico> spec, Pageable pageable, Collection<String> campos);
+
+    /**
+     * Nomes aceitos por {@link #findCampos}.
+     */
+    Set<String> camposSelecionaveis();
+
+    /**
+     * Percorre os servicos filtrados com um cursor do banco, ja com a empresa carregada.
+     * Cada entidade e desanexada ao ser emitida, entao a memoria nao cresce com o volume.
+     * Deve ser consumido dentro de uma transacao e fechado ao final.
+     */
+    Stream<Servico> streamAll(Specification<Servico> spec, Sort sort);
+
+    /**
+     * Insere os servicos em lotes JDBC, liberando o contexto de persistencia a cada bloco.
+     * Deve rodar dentro de uma transacao; as entidades retornadas ficam desanexadas.
+     */
+    List<Servico> saveAllEmLote(List<Servico> servicos);
+
+    List<ServicoAgregadoDTO> agregarPorMes(Specification<Servico> spec);
+
+    List<ServicoAgregadoDTO> agregarPorStatus(Specification<Servico> spec);
+
+    List<ServicoAgregadoDTO> agregarPorTipoPagamento(Specification<Servico> spec);
+
+    /**
+     * As {@code limite} empresas de maior valor total, em ordem decrescente.
+     */
+    List<ServicoAgregadoDTO> agregarPorEmpresa(Specification<Servico> spec, int limite);
+
+    /**
+     * Recalcula a partir da tabela de servicos as linhas que o resumo mensal deveria conter.
+     */
+    List<ServicoResumoMensal> calcularResumoMensal();
+
+    /**
+     * LOCK TABLE servico IN SHARE MODE (PostgreSQL): ate o fim da transacao ninguem
+     * grava servicos, e quem ja gravou termina antes, com o delta do resumo junto.
+     */
+    void travarGravacoes();
+}
@@ -0,0 +1,399 @@
+package br.com.allservice.repository;
+
+import br.com.allservice.controller.dto.EmpresaDTO;
+import br.com.allservice.controller.dto.ServicoAgregadoDTO;
+import br.com.allservice.controller.dto.ServicoDTO;
+import br.com.allservice.controller.dto.ServicoResumoDTO;
+import br.com.allservice.domain.Empresa;
+import br.com.allservice.domain.Servico;
+import br.com.allservice.domain.ServicoResumoMensal;
+import br.com.allservice.enums.StatusServico;
+import br.com.allservice.enums.TipoImposto;
+import br.com.allservice.enums.TipoPagamento;
+import br.com.allservice.execptions.ParametroInvalidoException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.JoinType;
+import jakarta.persistence.criteria.Order;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import jakarta.persistence.metamodel.Attribute;
+import org.hibernate.jpa.HibernateHints;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.lang.reflect.RecordComponent;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+public class ServicoRepositoryCustomImpl implements ServicoRepositoryCustom {
+
+    private static final int TAMANHO_LOTE_LEITURA = 500;
+    private static final int TAMANHO_LOTE_ESCRITA = 500;
+    private static final String PREFIXO_EMPRESA = "empresaDTO.";
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private volatile Map<String, List<String>> camposPermitidos;
+
+    @Override
+    public Page<ServicoResumoDTO> findResumos(Specification<Servico> spec, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<ServicoResumoDTO> query = cb.createQuery(ServicoResumoDTO.class);
+        Root<Servico> root = query.from(Servico.class);
+        Join<Servico, Empresa> empresa = root.join("empresa", JoinType.LEFT);
+
+        query.select(cb.construct(ServicoResumoDTO.class,
+                root.get("id"),
+                root.get("data"),
+                root.get("notaFiscal"),
+                empresa.get("id"),
+                empresa.get("razaoSocial"),
+                root.get("valorTotal"),
+                root.get("valorLiquido"),
+                root.get("tipoPagamento"),
+                root.get("status"),
+                root.get("dataVencimento")));
+        filtrar(spec, root, query, cb);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<ServicoResumoDTO> conteudo = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList();
+
+        return PageableExecutionUtils.getPage(conteudo, pageable, () -> contar(spec));
+    }
+
+    @Override
+    public Page<Map<String, Object>> findCampos(Specification<Servico> spec, Pageable pageable, Collection<String> campos) {
+        Map<String, List<String>> permitidos = camposPermitidos();
+        Set<String> selecionados = new LinkedHashSet<>();
+        selecionados.add("id");
+        for (String campo : campos) {
+            if (!permitidos.containsKey(campo)) {
+                throw new ParametroInvalidoException("campo invalido: " + campo);
+            }
+            selecionados.add(campo);
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Servico> root = query.from(Servico.class);
+        Join<Servico, Empresa> empresa = selecionados.stream().anyMatch(c -> c.startsWith(PREFIXO_EMPRESA))
+                ? root.join("empresa", JoinType.LEFT)
+                : null;
+
+        List<Selection<?>> colunas = new ArrayList<>();
+        for (String campo : selecionados) {
+            List<String> caminho = permitidos.get(campo);
+            Path<?> path = caminho.size() == 1
+                    ? root.get(caminho.get(0))
+                    : campo.startsWith(PREFIXO_EMPRESA)
+                    ? empresa.get(caminho.get(1))
+                    : root.get(caminho.get(0)).get(caminho.get(1));
+            colunas.add(path.alias(campo));
+        }
+
+        query.multiselect(colunas);
+        filtrar(spec, root, query, cb);
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        List<Map<String, Object>> conteudo = entityManager.createQuery(query)
+                .setFirstResult((int) pageable.getOffset())
+                .setMaxResults(pageable.getPageSize())
+                .getResultList()
+                .stream()
+                .map(linha -> paraMapa(linha, selecionados))
+                .toList();
+
+        return PageableExecutionUtils.getPage(conteudo, pageable, () -> contar(spec));
+    }
+
+    @Override
+    public Set<String> camposSelecionaveis() {
+        return camposPermitidos().keySet();
+    }
+
+    @Override
+    public Stream<Servico> streamAll(Specification<Servico> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Servico> query = cb.createQuery(Servico.class);
+        Root<Servico> root = query.from(Servico.class);
+        root.fetch("empresa", JoinType.LEFT);
+
+        query.select(root);
+        filtrar(spec, root, query, cb);
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, TAMANHO_LOTE_LEITURA)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .peek(entityManager::detach);
+    }
+
+    @Override
+    public List<Servico> saveAllEmLote(List<Servico> servicos) {
+        for (int i = 0; i < servicos.size(); i++) {
+            entityManager.persist(servicos.get(i));
+            if ((i + 1) % TAMANHO_LOTE_ESCRITA == 0) {
+                entityManager.flush();
+                entityManager.clear();
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        return servicos;
+    }
+
+    @Override
+    public List<ServicoAgregadoDTO> agregarPorMes(Specification<Servico> spec) {
+        return agrupar(spec,
+                (root, cb) -> {
+                    var hcb = (HibernateCriteriaBuilder) cb;
+                    Expression<LocalDate> data = root.get("data");
+                    return List.of(hcb.year(data), hcb.month(data));
+                },
+                chave -> {
+                    var mes = YearMonth.of((Integer) chave.get(0), (Integer) chave.get(1)).toString();
+                    return new String[]{mes, mes};
+                });
+    }
+
+    @Override
+    public List<ServicoAgregadoDTO> agregarPorStatus(Specification<Servico> spec) {
+        return agrupar(spec,
+                (root, cb) -> List.of(root.get("status")),
+                chave -> rotuloEnum(chave.get(0)));
+    }
+
+    @Override
+    public List<ServicoAgregadoDTO> agregarPorTipoPagamento(Specification<Servico> spec) {
+        return agrupar(spec,
+                (root, cb) -> List.of(root.get("tipoPagamento")),
+                chave -> rotuloEnum(chave.get(0)));
+    }
+
+    @Override
+    public List<ServicoAgregadoDTO> agregarPorEmpresa(Specification<Servico> spec, int limite) {
+        return agrupar(spec, limite,
+                (root, cb) -> {
+                    Join<Servico, Empresa> empresa = root.join("empresa", JoinType.LEFT);
+                    return List.of(empresa.get("id"), empresa.get("razaoSocial"));
+                },
+                chave -> new String[]{
+                        chave.get(0) == null ? null : chave.get(0).toString(),
+                        (String) chave.get(1)});
+    }
+
+    @Override
+    public void travarGravacoes() {
+        entityManager.createNativeQuery("LOCK TABLE servico IN SHARE MODE").executeUpdate();
+    }
+
+    @Override
+    public List<ServicoResumoMensal> calcularResumoMensal() {
+        var cb = (HibernateCriteriaBuilder) entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Servico> root = query.from(Servico.class);
+        Expression<LocalDate> data = root.get("data");
+
+        List<Expression<?>> grupo = List.of(
+                cb.year(data),
+                cb.month(data),
+                root.get("status"),
+                root.get("imposto"),
+                root.get("tipoPagamento"));
+
+        List<Selection<?>> colunas = new ArrayList<>(grupo);
+        colunas.add(cb.count(root));
+        colunas.add(soma(cb, root.get("valorTotal")));
+        colunas.add(soma(cb, root.get("valorImposto")));
+        colunas.add(soma(cb, root.get("valorLiquido")));
+
+        query.multiselect(colunas).groupBy(grupo);
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(linha -> {
+                    var mes = YearMonth.of(linha.get(0, Integer.class), linha.get(1, Integer.class));
+                    var status = linha.get(2, StatusServico.class);
+                    var imposto = linha.get(3, TipoImposto.class);
+                    var tipoPagamento = linha.get(4, TipoPagamento.class);
+                    return ServicoResumoMensal.builder()
+                            .chave(ServicoResumoMensal.chave(mes, status, imposto, tipoPagamento))
+                            .mes(mes.atDay(1))
+                            .status(status)
+                            .imposto(imposto)
+                            .tipoPagamento(tipoPagamento)
+                            .quantidade(linha.get(5, Long.class))
+                            .valorTotal(linha.get(6, BigDecimal.class))
+                            .valorImposto(linha.get(7, BigDecimal.class))
+                            .valorLiquido(linha.get(8, BigDecimal.class))
+                            .build();
+                })
+                .toList();
+    }
+
+    /**
+     * Executa um GROUP BY sobre as chaves informadas, somando quantidade e valores.
+     * O rotulador converte os valores das chaves em {chave, descricao}.
+     */
+    private List<ServicoAgregadoDTO> agrupar(
+            Specification<Servico> spec,
+            BiFunction<Root<Servico>, CriteriaBuilder, List<Expression<?>>> chaves,
+            Function<List<Object>, String[]> rotulador
+    ) {
+        return agrupar(spec, 0, chaves, rotulador);
+    }
+
+    /**
+     * Com {@code limite} maior que zero, so os grupos de maior valor total.
+     */
+    private List<ServicoAgregadoDTO> agrupar(
+            Specification<Servico> spec,
+            int limite,
+            BiFunction<Root<Servico>, CriteriaBuilder, List<Expression<?>>> chaves,
+            Function<List<Object>, String[]> rotulador
+    ) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Servico> root = query.from(Servico.class);
+        List<Expression<?>> grupo = chaves.apply(root, cb);
+
+        Expression<BigDecimal> valorTotal = soma(cb, root.get("valorTotal"));
+        List<Selection<?>> colunas = new ArrayList<>(grupo);
+        colunas.add(cb.count(root));
+        colunas.add(valorTotal);
+        colunas.add(soma(cb, root.get("valorImposto")));
+        colunas.add(soma(cb, root.get("valorLiquido")));
+
+        query.multiselect(colunas);
+        filtrar(spec, root, query, cb);
+        query.groupBy(grupo);
+
+        List<Order> ordem = new ArrayList<>();
+        if (limite > 0) {
+            ordem.add(cb.desc(valorTotal));
+        }
+        grupo.forEach(expressao -> ordem.add(cb.asc(expressao)));
+        query.orderBy(ordem);
+
+        var consulta = entityManager.createQuery(query);
+        if (limite > 0) {
+            consulta.setMaxResults(limite);
+        }
+
+        int n = grupo.size();
+        return consulta.getResultList().stream()
+                .map(linha -> {
+                    List<Object> chave = new ArrayList<>(n);
+                    for (int i = 0; i < n; i++) {
+                        chave.add(linha.get(i));
+                    }
+                    String[] rotulo = rotulador.apply(chave);
+                    return new ServicoAgregadoDTO(
+                            rotulo[0],
+                            rotulo[1],
+                            linha.get(n, Long.class),
+                            linha.get(n + 1, BigDecimal.class),
+                            linha.get(n + 2, BigDecimal.class),
+                            linha.get(n + 3, BigDecimal.class));
+                })
+                .toList();
+    }
+
+    private static Expression<BigDecimal> soma(CriteriaBuilder cb, Expression<BigDecimal> valor) {
+        return cb.coalesce(cb.sum(valor), BigDecimal.ZERO);
+    }
+
+    private static String[] rotuloEnum(Object valor) {
+        String nome = valor == null ? null : ((Enum<?>) valor).name();
+        return new String[]{nome, nome};
+    }
+
+    /**
+     * Campos do ServicoDTO que existem como coluna em Servico (ou Empresa, para empresaDTO.*),
+     * com o caminho de atributos correspondente na entidade.
+     */
+    private Map<String, List<String>> camposPermitidos() {
+        if (camposPermitidos == null) {
+            Map<String, List<String>> campos = new LinkedHashMap<>();
+            atributosDoDto(Servico.class, ServicoDTO.class).forEach(a -> campos.put(a, List.of(a)));
+            campos.put("idEmpresa", List.of("empresa", "id"));
+            campos.put("idUsuario", List.of("usuario", "id"));
+            atributosDoDto(Empresa.class, EmpresaDTO.class).forEach(a -> campos.put(PREFIXO_EMPRESA + a, List.of("empresa", a)));
+            camposPermitidos = campos;
+        }
+        return camposPermitidos;
+    }
+
+    private List<String> atributosDoDto(Class<?> entidade, Class<? extends Record> dto) {
+        Set<String> colunas = entityManager.getMetamodel().entity(entidade).getSingularAttributes().stream()
+                .filter(a -> !a.isAssociation())
+                .map(Attribute::getName)
+                .collect(Collectors.toSet());
+        return Arrays.stream(dto.getRecordComponents())
+                .map(RecordComponent::getName)
+                .filter(colunas::contains)
+                .toList();
+    }
+
+    private static Map<String, Object> paraMapa(Tuple linha, Set<String> campos) {
+        Map<String, Object> mapa = new LinkedHashMap<>();
+        for (String campo : campos) {
+            Object valor = linha.get(campo);
+            int ponto = campo.indexOf('.');
+            if (ponto < 0) {
+                mapa.put(campo, valor);
+            } else {
+                @SuppressWarnings("unchecked")
+                var aninhado = (Map<String, Object>) mapa.computeIfAbsent(campo.substring(0, ponto), k -> new LinkedHashMap<>());
+                aninhado.put(campo.substring(ponto + 1), valor);
+            }
+        }
+        return mapa;
+    }
+
+    private long contar(Specification<Servico> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<Servico> root = query.from(Servico.class);
+        query.select(cb.count(root));
+        filtrar(spec, root, query, cb);
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    private static void filtrar(Specification<Servico> spec, Root<Servico> root, CriteriaQuery<?> query, CriteriaBuilder cb) {
+        Predicate predicado = spec.toPredicate(root, query, cb);
+        if (predicado != null) {
+            query.where(predicado);
+        }
+    }
+}
@@ -0,0 +1,48 @@
+package br.com.allservice.repository;
+
+import br.com.allservice.domain.ServicoResumoMensal;
+import br.com.allservice.enums.StatusServico;
+import br.com.allservice.enums.TipoImposto;
+import br.com.allservice.enums.TipoPagamento;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+public interface ServicoResumoMensalRepository extends JpaRepository<ServicoResumoMensal, String> {
+
+    List<ServicoResumoMensal> findByMesBetweenOrderByMesAsc(LocalDate inicio, LocalDate fim);
+
+    /**
+     * Soma o delta na linha do grupo direto no banco, criando a linha se ainda nao existe,
+     * num unico comando: INSERT ... ON CONFLICT (CHAVE) DO UPDATE no PostgreSQL. Gravacoes
+     * concorrentes no mesmo grupo, inclusive a primeira de um mes, nao perdem atualizacoes.
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("""
+            insert into ServicoResumoMensal (chave, mes, status, imposto, tipoPagamento,
+                                             quantidade, valorTotal, valorImposto, valorLiquido)
+            values (:chave, :mes, :status, :imposto, :tipoPagamento,
+                    :quantidade, :valorTotal, :valorImposto, :valorLiquido)
+            on conflict (chave) do update
+               set quantidade = quantidade + excluded.quantidade,
+                   valorTotal = valorTotal + excluded.valorTotal,
+                   valorImposto = valorImposto + excluded.valorImposto,
+                   valorLiquido = valorLiquido + excluded.valorLiquido
+            """)
+    void acumular(
+            @Param("chave") String chave,
+            @Param("mes") LocalDate mes,
+            @Param("status") StatusServico status,
+            @Param("imposto") TipoImposto imposto,
+            @Param("tipoPagamento") TipoPagamento tipoPagamento,
+            @Param("quantidade") long quantidade,
+            @Param("valorTotal") BigDecimal valorTotal,
+            @Param("valorImposto") BigDecimal valorImposto,
+            @Param("valorLiquido") BigDecimal valorLiquido
+    );
+}
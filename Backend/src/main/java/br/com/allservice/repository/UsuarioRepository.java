@@ -1,15 +1,23 @@
 package br.com.allservice.repository;
 
 import br.com.allservice.domain.Usuario;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
 public interface UsuarioRepository extends JpaRepository<Usuario, UUID>, JpaSpecificationExecutor<Usuario> {
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"))
     Optional<Usuario> findByLogin(String login);
 
     Usuario findByEmail(String email);
+
+    List<Usuario> findByDataAtualizacaoAfter(LocalDateTime data);
     //List<Usuario> findByDetails();
 }
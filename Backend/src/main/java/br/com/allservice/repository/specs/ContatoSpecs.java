@@ -2,6 +2,7 @@ package br.com.allservice.repository.specs;
 
 import br.com.allservice.domain.Contato;
 import br.com.allservice.enums.TipoSetor;
+import br.com.allservice.util.TextoBusca;
 import org.springframework.data.jpa.domain.Specification;
 
 public class ContatoSpecs {
@@ -23,13 +24,13 @@ public class ContatoSpecs {
 //                    ), "%" + nomeEmpresa.toUpperCase() + "%"
 //            );
             return criteriaBuilder.like(
-                    criteriaBuilder.upper(root.get("empresa").get("razaoSocial")), "%" + nomeEmpresa.toUpperCase() + "%"
+                    root.get("empresa").get("razaoSocialBusca"), TextoBusca.contem(nomeEmpresa), TextoBusca.ESCAPE
             );
         } ;
     }
 
     public static Specification<Contato> responsavelLike(String responsavel) {
-        return (root, query, criteriaBuilder) -> criteriaBuilder.like( criteriaBuilder.upper(root.get("responsavel")), "%" + responsavel.toUpperCase() + "%") ;
+        return (root, query, criteriaBuilder) -> criteriaBuilder.like( root.get("responsavelBusca"), TextoBusca.contem(responsavel), TextoBusca.ESCAPE) ;
     }
 
     public static Specification<Contato> setorEqual(TipoSetor setor) {
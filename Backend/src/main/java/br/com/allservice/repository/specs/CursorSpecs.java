@@ -0,0 +1,31 @@
+package br.com.allservice.repository.specs;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.UUID;
+
+public class CursorSpecs {
+
+    /**
+     * Paginacao por cursor (keyset) sobre (atributo DESC, id DESC).
+     * O limite redundante "atributo <= valor" deixa o indice (atributo, ID) delimitar a busca.
+     */
+
+    public static Sort ordem(String atributo) {
+        return Sort.by(Sort.Direction.DESC, atributo, "id");
+    }
+
+    public static <T, C extends Comparable<? super C>> Specification<T> apos(String atributo, C valor, UUID id) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(
+                criteriaBuilder.lessThanOrEqualTo(root.get(atributo), valor),
+                criteriaBuilder.or(
+                        criteriaBuilder.lessThan(root.get(atributo), valor),
+                        criteriaBuilder.and(
+                                criteriaBuilder.equal(root.get(atributo), valor),
+                                criteriaBuilder.lessThan(root.get("id"), id)
+                        )
+                )
+        );
+    }
+}
@@ -1,6 +1,7 @@
 package br.com.allservice.repository.specs;
 
 import br.com.allservice.domain.Empresa;
+import br.com.allservice.util.TextoBusca;
 import org.springframework.data.jpa.domain.Specification;
 
 public class EmpresaSpecs {
@@ -12,7 +13,7 @@ public class EmpresaSpecs {
      */
 
     public static Specification<Empresa> razaoSociallLike(String razaoSocial) {
-        return (root, query, criteriaBuilder) -> criteriaBuilder.like( criteriaBuilder.upper(root.get("razaoSocial")), "%" + razaoSocial.toUpperCase() + "%") ;
+        return (root, query, criteriaBuilder) -> criteriaBuilder.like( root.get("razaoSocialBusca"), TextoBusca.contem(razaoSocial), TextoBusca.ESCAPE) ;
     }
 
     public static Specification<Empresa> cnpjEqual(String cnpj) {
@@ -4,13 +4,20 @@ import br.com.allservice.domain.Servico;
 import br.com.allservice.enums.StatusServico;
 import br.com.allservice.enums.TipoImposto;
 import br.com.allservice.enums.TipoPagamento;
+import br.com.allservice.util.TextoBusca;
 import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.Year;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.UUID;
 
 public class ServicoSpecs {
 
+    private static final DateTimeFormatter MES_ANO = DateTimeFormatter.ofPattern("M/yyyy");
+
     /**
      *             String notaFiscal,
      *             String mesAno,
@@ -21,9 +28,20 @@ public class ServicoSpecs {
      *             TipoPagamento tipoPagamento,
      *             BigDecimal valorTotal,
      *             LocalDate dataVencimento,
-     *             LocalDate data
+     *             LocalDate data,
+     *             LocalDate dataInicio / dataFim,
+     *             LocalDate vencimentoInicio / vencimentoFim,
+     *             BigDecimal valorMin / valorMax
+     *
+     * Os filtros de periodo comparam a coluna diretamente (intervalo semiaberto [inicio, fim)),
+     * sem funcoes sobre DATA/DATA_VENCIMENTO, para que os indices do Servico sejam usados.
      */
 
+    public static Specification<Servico> idEqual(UUID id) {
+        return (root, query, criteriaBuilder) ->
+                criteriaBuilder.equal(root.get("id"), id);
+    }
+
     public static Specification<Servico> notaFiscalEqual(String notaFiscal) {
         return (root, query, criteriaBuilder) ->
                 criteriaBuilder.equal(criteriaBuilder.upper(root.get("notaFiscal")), notaFiscal.toUpperCase()
@@ -31,29 +49,17 @@ public class ServicoSpecs {
     }
 
     public static Specification<Servico> anoEqual(String ano) {
-        return (root, query, criteriaBuilder) ->
-                criteriaBuilder.equal(
-                        criteriaBuilder.function(
-                                "to_char",
-                                String.class,
-                                root.get("data"),
-                                criteriaBuilder.literal("YYYY")
-                        ),
-                        ano
-                );
+        LocalDate inicio = Year.parse(ano.trim()).atDay(1);
+        return dataIntervalo("data", inicio, inicio.plusYears(1));
     }
 
     public static Specification<Servico> mesAnoEqual(String mesAno) {
-        return (root, query, criteriaBuilder) ->
-                criteriaBuilder.equal(
-                        criteriaBuilder.function(
-                                "to_char",
-                                String.class,
-                                root.get("data"),
-                                criteriaBuilder.literal("MM/YYYY")
-                        ),
-                        mesAno
-                );
+        return mesEqual(YearMonth.parse(mesAno.trim(), MES_ANO));
+    }
+
+    public static Specification<Servico> mesEqual(YearMonth mes) {
+        LocalDate inicio = mes.atDay(1);
+        return dataIntervalo("data", inicio, inicio.plusMonths(1));
     }
 
     public static Specification<Servico> nomeEmpresaLike(String nomeEmpresa) {
@@ -65,7 +71,7 @@ public class ServicoSpecs {
 //                    ), "%" + nomeEmpresa.toUpperCase() + "%"
 //            );
             return criteriaBuilder.like(
-                    criteriaBuilder.upper(root.get("empresa").get("razaoSocial")), "%" + nomeEmpresa.toUpperCase() + "%"
+                    root.get("empresa").get("razaoSocialBusca"), TextoBusca.contem(nomeEmpresa), TextoBusca.ESCAPE
             );
         } ;
     }
@@ -94,5 +100,36 @@ public class ServicoSpecs {
         return (root, query, criteriaBuilder) -> criteriaBuilder.equal( root.get("data"), data) ;
     }
 
+    public static Specification<Servico> dataGreaterThanOrEqual(LocalDate dataInicio) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThanOrEqualTo(root.get("data"), dataInicio);
+    }
+
+    public static Specification<Servico> dataLessThanOrEqual(LocalDate dataFim) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.lessThan(root.get("data"), dataFim.plusDays(1));
+    }
+
+    public static Specification<Servico> dataVencimentoGreaterThanOrEqual(LocalDate vencimentoInicio) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThanOrEqualTo(root.get("dataVencimento"), vencimentoInicio);
+    }
+
+    public static Specification<Servico> dataVencimentoLessThanOrEqual(LocalDate vencimentoFim) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.lessThan(root.get("dataVencimento"), vencimentoFim.plusDays(1));
+    }
+
+    public static Specification<Servico> valorTotalGreaterThanOrEqual(BigDecimal valorMin) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.greaterThanOrEqualTo(root.get("valorTotal"), valorMin);
+    }
+
+    public static Specification<Servico> valorTotalLessThanOrEqual(BigDecimal valorMax) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.lessThanOrEqualTo(root.get("valorTotal"), valorMax);
+    }
+
+    private static Specification<Servico> dataIntervalo(String atributo, LocalDate inicio, LocalDate fimExclusivo) {
+        return (root, query, criteriaBuilder) -> criteriaBuilder.and(
+                criteriaBuilder.greaterThanOrEqualTo(root.get(atributo), inicio),
+                criteriaBuilder.lessThan(root.get(atributo), fimExclusivo)
+        );
+    }
+
 
 }
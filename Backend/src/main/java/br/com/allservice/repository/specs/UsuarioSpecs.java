@@ -3,6 +3,7 @@ package br.com.allservice.repository.specs;
 import br.com.allservice.domain.Usuario;
 import br.com.allservice.enums.StatusUsuario;
 import br.com.allservice.enums.TipoPerfil;
+import br.com.allservice.util.TextoBusca;
 import org.springframework.data.jpa.domain.Specification;
 
 public class UsuarioSpecs {
@@ -15,7 +16,7 @@ public class UsuarioSpecs {
      */
 
     public static Specification<Usuario> nomeLike(String nome) {
-        return (root, query, criteriaBuilder) -> criteriaBuilder.like( criteriaBuilder.upper(root.get("nome")), "%" + nome.toUpperCase() + "%") ;
+        return (root, query, criteriaBuilder) -> criteriaBuilder.like( root.get("nomeBusca"), TextoBusca.contem(nome), TextoBusca.ESCAPE) ;
     }
 
     public static Specification<Usuario> funcaoEquals(String funcao) {
@@ -0,0 +1,47 @@
+package br.com.allservice.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+
+/**
+ * Remove periodicamente as autorizacoes OAuth2 cujos tokens ja expiraram
+ * todos, mantendo a tabela oauth2_authorization do tamanho das sessoes ativas.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AutorizacaoExpurgo {
+
+    private static final String REMOVER_EXPIRADAS = """
+            delete from oauth2_authorization
+             where coalesce(authorization_code_expires_at, access_token_expires_at,
+                            refresh_token_expires_at, oidc_id_token_expires_at,
+                            device_code_expires_at, user_code_expires_at) is not null
+               and (authorization_code_expires_at is null or authorization_code_expires_at < ?)
+               and (access_token_expires_at is null or access_token_expires_at < ?)
+               and (refresh_token_expires_at is null or refresh_token_expires_at < ?)
+               and (oidc_id_token_expires_at is null or oidc_id_token_expires_at < ?)
+               and (device_code_expires_at is null or device_code_expires_at < ?)
+               and (user_code_expires_at is null or user_code_expires_at < ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Scheduled(fixedDelayString = "${allservice.seguranca.autorizacao.expurgo:1h}")
+    public int expurgar() {
+        var agora = Timestamp.from(Instant.now());
+        int removidas = jdbcTemplate.update(REMOVER_EXPIRADAS, agora, agora, agora, agora, agora, agora);
+
+        if (removidas > 0) {
+            log.info("{} autorizacoes OAuth2 expiradas removidas", removidas);
+        }
+
+        return removidas;
+    }
+}
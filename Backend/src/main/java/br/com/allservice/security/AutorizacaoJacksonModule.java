@@ -0,0 +1,21 @@
+package br.com.allservice.security;
+
+import br.com.allservice.domain.Usuario;
+import com.fasterxml.jackson.databind.module.SimpleModule;
+
+/**
+ * Registra os mixins do principal da aplicacao para que o
+ * JdbcOAuth2AuthorizationService consiga gravar e ler as autorizacoes.
+ */
+public class AutorizacaoJacksonModule extends SimpleModule {
+
+    public AutorizacaoJacksonModule() {
+        super(AutorizacaoJacksonModule.class.getName());
+    }
+
+    @Override
+    public void setupModule(SetupContext context) {
+        context.setMixInAnnotations(CustomAuthentication.class, CustomAuthenticationMixin.class);
+        context.setMixInAnnotations(Usuario.class, UsuarioMixin.class);
+    }
+}
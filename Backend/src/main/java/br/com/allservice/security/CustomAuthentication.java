@@ -2,7 +2,6 @@ package br.com.allservice.security;
 
 import br.com.allservice.domain.Usuario;
 import lombok.Getter;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
@@ -10,15 +9,30 @@ import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import java.util.Collection;
 import java.util.List;
 
-@RequiredArgsConstructor
 @Getter
 public class CustomAuthentication implements Authentication {
 
-    private final Usuario usuario;
+    private final UsuarioAutenticado usuarioAutenticado;
+
+    public CustomAuthentication(Usuario usuario) {
+        this(UsuarioAutenticado.de(usuario));
+    }
+
+    public CustomAuthentication(UsuarioAutenticado usuarioAutenticado) {
+        this.usuarioAutenticado = usuarioAutenticado;
+    }
+
+    /**
+     * Entidade do usuario logado. Quando a autenticacao veio de um token
+     * ela e carregada aqui, na primeira chamada.
+     */
+    public Usuario getUsuario() {
+        return usuarioAutenticado.getUsuario();
+    }
 
     @Override
     public Collection<GrantedAuthority> getAuthorities() {
-        return List.of(new SimpleGrantedAuthority(this.usuario.getPerfil().toString()));
+        return List.of(new SimpleGrantedAuthority(this.usuarioAutenticado.getPerfil().toString()));
     }
 
     @Override
@@ -28,12 +42,12 @@ public class CustomAuthentication implements Authentication {
 
     @Override
     public Object getDetails() {
-        return usuario;
+        return usuarioAutenticado;
     }
 
     @Override
     public Object getPrincipal() {
-        return usuario;
+        return usuarioAutenticado;
     }
 
     @Override
@@ -48,6 +62,6 @@ public class CustomAuthentication implements Authentication {
 
     @Override
     public String getName() {
-        return usuario.getLogin();
+        return usuarioAutenticado.getLogin();
     }
 }
@@ -0,0 +1,29 @@
+package br.com.allservice.security;
+
+import br.com.allservice.domain.Usuario;
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Libera o CustomAuthentication no ObjectMapper do Authorization Server,
+ * que grava o principal nos atributos da autorizacao. So o usuario e
+ * serializado; o resto e derivado dele.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+@JsonAutoDetect(
+        fieldVisibility = JsonAutoDetect.Visibility.NONE,
+        getterVisibility = JsonAutoDetect.Visibility.NONE,
+        isGetterVisibility = JsonAutoDetect.Visibility.NONE)
+@JsonIgnoreProperties(ignoreUnknown = true)
+abstract class CustomAuthenticationMixin {
+
+    @JsonCreator
+    CustomAuthenticationMixin(@JsonProperty("usuario") Usuario usuario) {
+    }
+
+    @JsonProperty("usuario")
+    abstract Usuario getUsuario();
+}
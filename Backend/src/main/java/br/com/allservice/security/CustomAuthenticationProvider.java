@@ -1,14 +1,17 @@
 package br.com.allservice.security;
 
 import br.com.allservice.domain.Usuario;
+import br.com.allservice.execptions.ServicoSobrecarregadoException;
 import br.com.allservice.service.UsuarioService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.authentication.AuthenticationProvider;
+import org.springframework.security.authentication.AuthenticationServiceException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.authentication.WebAuthenticationDetails;
 import org.springframework.stereotype.Component;
 
 @Component
@@ -17,22 +20,44 @@ public class CustomAuthenticationProvider implements AuthenticationProvider {
 
     private final UsuarioService service;
     private final PasswordEncoder encoder;
+    private final LimitadorLogin limitador;
 
     @Override
     public Authentication authenticate(Authentication authentication) throws AuthenticationException {
+        String ip = obterIp(authentication);
+        limitador.verificar(authentication.getName(), ip);
+
         Usuario usuarioEncontrado = service.findByLogin(authentication.getName());
 
         if (usuarioEncontrado == null) {
+            limitador.falha(authentication.getName(), ip);
             throw getErrorUsuarioOuSenhaInvalida();
         }
 
-        if(encoder.matches(authentication.getCredentials().toString(), usuarioEncontrado.getSenha())){
+        if(senhaConfere(authentication.getCredentials().toString(), usuarioEncontrado.getSenha())){
+            limitador.limpar(authentication.getName());
             return new CustomAuthentication(usuarioEncontrado);
         }
 
+        limitador.falha(authentication.getName(), ip);
         throw getErrorUsuarioOuSenhaInvalida();
     }
 
+    private boolean senhaConfere(String senha, String hash) {
+        try {
+            return encoder.matches(senha, hash);
+        } catch (ServicoSobrecarregadoException e) {
+            throw new AuthenticationServiceException(e.getMessage(), e);
+        }
+    }
+
+    private static String obterIp(Authentication authentication) {
+        if (authentication.getDetails() instanceof WebAuthenticationDetails details) {
+            return details.getRemoteAddress();
+        }
+        return null;
+    }
+
     private UsernameNotFoundException getErrorUsuarioOuSenhaInvalida() {
         return new UsernameNotFoundException("Usuario e/ou senha inválidos!");
     }
@@ -1,7 +1,9 @@
 package br.com.allservice.security;
 
-import br.com.allservice.service.AppClienteService;
+import br.com.allservice.domain.AppCliente;
+import br.com.allservice.repository.RepositoryFacade;
 import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.oauth2.core.AuthorizationGrantType;
 import org.springframework.security.oauth2.core.ClientAuthenticationMethod;
 import org.springframework.security.oauth2.server.authorization.client.RegisteredClient;
@@ -10,14 +12,30 @@ import org.springframework.security.oauth2.server.authorization.settings.ClientS
 import org.springframework.security.oauth2.server.authorization.settings.TokenSettings;
 import org.springframework.stereotype.Component;
 
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registro em memoria dos clientes OAuth2, indexado por id e por clientId.
+ * E carregado na subida, atualizado a cada gravacao de AppCliente e so vai
+ * ao banco quando o cliente ainda nao esta no registro.
+ * <p>
+ * A gravacao so atualiza a instancia que gravou; as demais, e as exclusoes
+ * feitas direto no banco, entram na recarga periodica, que troca o registro
+ * inteiro pelo conteudo atual de APP_CLIENTE.
+ */
 @Component
 @RequiredArgsConstructor
 public class CustomRegisteredClientRepository implements RegisteredClientRepository {
 
-    private final AppClienteService service;
+    private final RepositoryFacade repository;
     private final TokenSettings tokenSettings;
     private final ClientSettings clientSettings;
 
+    private volatile Registro registro = new Registro();
+
     @Override
     public void save(RegisteredClient registeredClient) {
 
@@ -25,17 +43,63 @@ public class CustomRegisteredClientRepository implements RegisteredClientReposit
 
     @Override
     public RegisteredClient findById(String id) {
-        return null;
+        var client = registro.porId.get(id);
+
+        if (client != null) {
+            return client;
+        }
+
+        try {
+            return registrar(repository.appClienteRepository.findById(UUID.fromString(id)));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
     }
 
     @Override
     public RegisteredClient findByClientId(String clientId) {
-        var client = service.findByClientId(clientId);
+        var client = registro.porClientId.get(clientId);
 
-        if(client == null){
-            return null;
+        if (client != null) {
+            return client;
         }
 
+        return registrar(Optional.ofNullable(repository.appClienteRepository.findByClientId(clientId)));
+    }
+
+    /**
+     * Substitui a entrada do cliente pela versao recem gravada.
+     */
+    public void atualizar(AppCliente appCliente) {
+        registro.colocar(converter(appCliente));
+    }
+
+    /**
+     * Monta um registro novo com todos os clientes do banco e troca o atual
+     * por ele; quem le durante a recarga ainda ve o registro anterior.
+     */
+    @Scheduled(
+            initialDelayString = "${allservice.seguranca.clientes.sincronizacao:5m}",
+            fixedDelayString = "${allservice.seguranca.clientes.sincronizacao:5m}")
+    public int recarregar() {
+        var clientes = repository.appClienteRepository.findAll();
+        var novo = new Registro();
+
+        clientes.forEach(cliente -> novo.colocar(converter(cliente)));
+        registro = novo;
+
+        return clientes.size();
+    }
+
+    private RegisteredClient registrar(Optional<AppCliente> appCliente) {
+        return appCliente.map(cliente -> {
+            var client = converter(cliente);
+            registro.colocar(client);
+            return client;
+        }).orElse(null);
+    }
+
+    private RegisteredClient converter(AppCliente client) {
         return RegisteredClient
                 .withId(client.getId().toString())
                 .clientId(client.getClientId())
@@ -51,4 +115,20 @@ public class CustomRegisteredClientRepository implements RegisteredClientReposit
                 .clientSettings(clientSettings)
                 .build();
     }
+
+    private static final class Registro {
+
+        private final Map<String, RegisteredClient> porId = new ConcurrentHashMap<>();
+        private final Map<String, RegisteredClient> porClientId = new ConcurrentHashMap<>();
+
+        private void colocar(RegisteredClient client) {
+            var anterior = porId.put(client.getId(), client);
+
+            if (anterior != null && !anterior.getClientId().equals(client.getClientId())) {
+                porClientId.remove(anterior.getClientId());
+            }
+
+            porClientId.put(client.getClientId(), client);
+        }
+    }
 }
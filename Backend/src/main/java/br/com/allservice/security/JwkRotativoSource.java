@@ -0,0 +1,191 @@
+package br.com.allservice.security;
+
+import br.com.allservice.domain.ChaveJwk;
+import br.com.allservice.repository.RepositoryFacade;
+import com.nimbusds.jose.jwk.JWK;
+import com.nimbusds.jose.jwk.JWKSelector;
+import com.nimbusds.jose.jwk.JWKSet;
+import com.nimbusds.jose.jwk.RSAKey;
+import com.nimbusds.jose.jwk.source.JWKSource;
+import com.nimbusds.jose.proc.SecurityContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.interfaces.RSAPrivateKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Chaves de assinatura dos JWT guardadas na tabela CHAVE_JWK, para que todas
+ * as instancias assinem e validem com o mesmo conjunto e um restart nao
+ * invalide os tokens emitidos.
+ * <p>
+ * A chave mais recente assina; ao rotacionar, as anteriores continuam
+ * publicadas por mais {@code retencao}, tempo suficiente para os tokens ja
+ * emitidos expirarem. O conjunto fica em memoria e e recarregado
+ * periodicamente ou quando chega um token com kid desconhecido.
+ * <p>
+ * A rotacao trava a chave mais recente (SELECT ... FOR UPDATE) e confere de
+ * novo a idade dentro da trava, entao so uma instancia gera a chave do ciclo.
+ * Com a tabela vazia nao ha o que travar: instancias subindo juntas podem
+ * gerar uma chave cada, todas publicadas, e a mais recente passa a assinar.
+ */
+@Slf4j
+@Component
+public class JwkRotativoSource implements JWKSource<SecurityContext> {
+
+    private static final long INTERVALO_MINIMO_RECARGA = Duration.ofSeconds(10).toNanos();
+
+    private final RepositoryFacade repository;
+    private final Duration rotacao;
+    private final Duration retencao;
+    private final TransactionTemplate transacao;
+
+    private volatile Conjunto conjunto;
+    private volatile long ultimaRecarga;
+
+    public JwkRotativoSource(
+            RepositoryFacade repository,
+            @Value("${allservice.seguranca.jwk.rotacao:30d}") Duration rotacao,
+            @Value("${allservice.seguranca.jwk.retencao:1d}") Duration retencao,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.repository = repository;
+        this.rotacao = rotacao;
+        this.retencao = retencao;
+        this.transacao = new TransactionTemplate(transactionManager);
+    }
+
+    @Override
+    public List<JWK> get(JWKSelector jwkSelector, SecurityContext context) {
+        var chaves = jwkSelector.select(conjunto().jwkSet());
+
+        if (chaves.isEmpty() && jwkSelector.getMatcher().getKeyIDs() != null && podeRecarregar()) {
+            chaves = jwkSelector.select(recarregar().jwkSet());
+        }
+
+        return chaves;
+    }
+
+    /**
+     * Kid da chave que deve assinar os proximos tokens.
+     */
+    public String kidAtual() {
+        return conjunto().kidAtual();
+    }
+
+    @Scheduled(fixedDelayString = "${allservice.seguranca.jwk.sincronizacao:1m}")
+    public void sincronizar() {
+        var atual = recarregar();
+
+        if (vencida(atual.criacaoAtual())) {
+            rotacionar();
+        }
+    }
+
+    /**
+     * Gera uma nova chave de assinatura e agenda a expiracao das anteriores,
+     * se outra instancia nao tiver rotacionado enquanto esta esperava a trava.
+     */
+    public synchronized String rotacionar() {
+        transacao.executeWithoutResult(status -> {
+            repository.chaveJwkRepository.findFirstByOrderByDataCriacaoDesc();
+
+            // nova consulta depois da trava: enxerga a chave de quem rotacionou antes
+            var agora = LocalDateTime.now();
+            var publicadas = repository.chaveJwkRepository.findPublicadas(agora);
+            if (!publicadas.isEmpty() && !vencida(publicadas.get(0).getDataCriacao())) {
+                return;
+            }
+
+            var chave = gerar(agora);
+            repository.chaveJwkRepository.expirarAnteriores(chave.getKid(), agora.plus(retencao));
+            int removidas = repository.chaveJwkRepository.removerExpiradas(agora);
+            log.info("Chave JWK rotacionada, nova {} ({} expiradas removidas)", chave.getKid(), removidas);
+        });
+
+        return recarregar().kidAtual();
+    }
+
+    private boolean vencida(LocalDateTime criacao) {
+        return criacao.plus(rotacao).isBefore(LocalDateTime.now());
+    }
+
+    private Conjunto conjunto() {
+        var atual = conjunto;
+        return atual != null ? atual : recarregar();
+    }
+
+    private boolean podeRecarregar() {
+        return System.nanoTime() - ultimaRecarga >= INTERVALO_MINIMO_RECARGA;
+    }
+
+    private synchronized Conjunto recarregar() {
+        var chaves = repository.chaveJwkRepository.findPublicadas(LocalDateTime.now());
+
+        if (chaves.isEmpty()) {
+            chaves = List.of(gerar(LocalDateTime.now()));
+            log.info("Nenhuma chave JWK cadastrada, gerada {}", chaves.get(0).getKid());
+        }
+
+        var atual = chaves.get(0);
+        conjunto = new Conjunto(
+                new JWKSet(chaves.stream().<JWK>map(JwkRotativoSource::paraJwk).toList()),
+                atual.getKid(),
+                atual.getDataCriacao());
+        ultimaRecarga = System.nanoTime();
+        return conjunto;
+    }
+
+    private ChaveJwk gerar(LocalDateTime agora) {
+        try {
+            KeyPairGenerator keyPairGenerator = KeyPairGenerator.getInstance("RSA");
+            keyPairGenerator.initialize(2048);
+            KeyPair keyPair = keyPairGenerator.generateKeyPair();
+
+            return repository.chaveJwkRepository.save(ChaveJwk.builder()
+                    .kid(UUID.randomUUID().toString())
+                    .chavePublica(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()))
+                    .chavePrivada(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()))
+                    .dataCriacao(agora)
+                    .build());
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Nao foi possivel gerar a chave RSA", e);
+        }
+    }
+
+    private static RSAKey paraJwk(ChaveJwk chave) {
+        try {
+            KeyFactory keyFactory = KeyFactory.getInstance("RSA");
+            var chavePublica = (RSAPublicKey) keyFactory.generatePublic(
+                    new X509EncodedKeySpec(Base64.getDecoder().decode(chave.getChavePublica())));
+            var chavePrivada = (RSAPrivateKey) keyFactory.generatePrivate(
+                    new PKCS8EncodedKeySpec(Base64.getDecoder().decode(chave.getChavePrivada())));
+
+            return new RSAKey
+                    .Builder(chavePublica)
+                    .privateKey(chavePrivada)
+                    .keyID(chave.getKid())
+                    .build();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("Chave JWK " + chave.getKid() + " invalida", e);
+        }
+    }
+
+    private record Conjunto(JWKSet jwkSet, String kidAtual, LocalDateTime criacaoAtual) {
+    }
+}
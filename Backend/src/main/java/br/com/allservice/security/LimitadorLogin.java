@@ -0,0 +1,116 @@
+package br.com.allservice.security;
+
+import br.com.allservice.execptions.LoginBloqueadoException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * Janela deslizante de falhas de login por login e por IP.
+ * A verificacao acontece antes de qualquer hash de senha, entao um ataque
+ * de forca bruta e barrado sem custo de CPU. So as falhas contam: muitos
+ * usuarios legitimos atras do mesmo IP (NAT de escritorio) nao se bloqueiam.
+ */
+@Component
+public class LimitadorLogin {
+
+    private final int maximoPorLogin;
+    private final int maximoPorIp;
+    private final long janelaNanos;
+    private final Cache<String, Deque<Long>> tentativas;
+    private final Counter bloqueiosLogin;
+    private final Counter bloqueiosIp;
+
+    public LimitadorLogin(
+            MeterRegistry meterRegistry,
+            @Value("${allservice.seguranca.login.maximo-por-login:5}") int maximoPorLogin,
+            @Value("${allservice.seguranca.login.maximo-por-ip:30}") int maximoPorIp,
+            @Value("${allservice.seguranca.login.janela:1m}") Duration janela
+    ) {
+        this.maximoPorLogin = maximoPorLogin;
+        this.maximoPorIp = maximoPorIp;
+        this.janelaNanos = janela.toNanos();
+        this.tentativas = Caffeine.newBuilder()
+                .maximumSize(100_000)
+                .expireAfterAccess(janela)
+                .build();
+        this.bloqueiosLogin = Counter.builder("allservice.login.bloqueios").tag("motivo", "login").register(meterRegistry);
+        this.bloqueiosIp = Counter.builder("allservice.login.bloqueios").tag("motivo", "ip").register(meterRegistry);
+    }
+
+    /**
+     * Lanca LoginBloqueadoException se o login ou o IP ja atingiram o limite
+     * de falhas dentro da janela.
+     */
+    public void verificar(String login, String ip) {
+        long agora = System.nanoTime();
+
+        if (ip != null && bloqueado("ip:" + ip, maximoPorIp, agora)) {
+            bloqueiosIp.increment();
+            throw new LoginBloqueadoException("Muitas tentativas de login, tente novamente mais tarde");
+        }
+
+        if (login != null && bloqueado("login:" + login, maximoPorLogin, agora)) {
+            bloqueiosLogin.increment();
+            throw new LoginBloqueadoException("Muitas tentativas de login, tente novamente mais tarde");
+        }
+    }
+
+    /**
+     * Conta uma senha ou usuario invalido para o login e para o IP.
+     */
+    public void falha(String login, String ip) {
+        long agora = System.nanoTime();
+        if (ip != null) {
+            registrar("ip:" + ip, agora);
+        }
+        if (login != null) {
+            registrar("login:" + login, agora);
+        }
+    }
+
+    /**
+     * Zera a janela do login depois de uma autenticacao bem sucedida. A do IP
+     * fica: quem tem uma conta valida nao pode usa-la para zerar as falhas
+     * contra as contas dos outros.
+     */
+    public void limpar(String login) {
+        if (login != null) {
+            tentativas.invalidate("login:" + login);
+        }
+    }
+
+    private boolean bloqueado(String chave, int maximo, long agora) {
+        Deque<Long> janela = tentativas.getIfPresent(chave);
+        if (janela == null) {
+            return false;
+        }
+
+        synchronized (janela) {
+            descartarVencidas(janela, agora);
+            return janela.size() >= maximo;
+        }
+    }
+
+    private void registrar(String chave, long agora) {
+        Deque<Long> janela = tentativas.get(chave, k -> new ArrayDeque<>());
+
+        synchronized (janela) {
+            descartarVencidas(janela, agora);
+            janela.addLast(agora);
+        }
+    }
+
+    private void descartarVencidas(Deque<Long> janela, long agora) {
+        while (!janela.isEmpty() && agora - janela.peekFirst() >= janelaNanos) {
+            janela.pollFirst();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.allservice.security;
+
+import br.com.allservice.execptions.ServicoSobrecarregadoException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Executa o hash de senha num pool proprio, com fila limitada.
+ * Quando a fila enche a chamada falha na hora em vez de prender mais uma
+ * thread do Tomcat esperando CPU.
+ */
+public class PasswordEncoderLimitado implements PasswordEncoder, AutoCloseable {
+
+    private final PasswordEncoder delegate;
+    private final ThreadPoolExecutor pool;
+    private final ExecutorService executor;
+    private final Timer encodeTimer;
+    private final Timer matchesTimer;
+    private final Counter rejeitadas;
+
+    public PasswordEncoderLimitado(PasswordEncoder delegate, int threads, int fila, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.pool = new ThreadPoolExecutor(
+                threads, threads,
+                0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(fila),
+                new CustomizableThreadFactory("senha-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor = ExecutorServiceMetrics.monitor(meterRegistry, pool, "senha-hash");
+        this.encodeTimer = Timer.builder("allservice.senha.hash").tag("operacao", "encode").register(meterRegistry);
+        this.matchesTimer = Timer.builder("allservice.senha.hash").tag("operacao", "matches").register(meterRegistry);
+        this.rejeitadas = Counter.builder("allservice.senha.rejeitadas").register(meterRegistry);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executar(() -> encodeTimer.recordCallable(() -> delegate.encode(rawPassword)));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executar(() -> matchesTimer.recordCallable(() -> delegate.matches(rawPassword, encodedPassword)));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private <T> T executar(Callable<T> tarefa) {
+        try {
+            return executor.submit(tarefa).get();
+        } catch (RejectedExecutionException e) {
+            rejeitadas.increment();
+            throw new ServicoSobrecarregadoException("Muitas requisicoes de autenticacao, tente novamente em instantes");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServicoSobrecarregadoException("Hash de senha interrompido");
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package br.com.allservice.security;
+
+import br.com.allservice.domain.Usuario;
+import br.com.allservice.enums.StatusUsuario;
+import br.com.allservice.enums.TipoEntidade;
+import br.com.allservice.enums.TipoPerfil;
+import br.com.allservice.repository.RepositoryFacade;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * Monta o principal a partir das claims gravadas pelo oAuth2TokenCustomizer,
+ * sem acessar o banco. A entidade Usuario so e consultada quando alguem
+ * chama getUsuario(), e fica num cache limitado por login + jti.
+ * <p>
+ * As claims deixam de valer quando o usuario e alterado ou excluido depois da
+ * emissao do token (iat): dai em diante o principal vem do banco, como antes
+ * das claims. A instancia que grava revoga na hora; as demais descobrem pela
+ * varredura periodica de USUARIO.DATA_ATUALIZACAO e das lapides de exclusao.
+ */
+@Component
+public class PrincipalJwtResolver {
+
+    /**
+     * Sobreposicao entre varreduras, para alteracoes que commitaram depois do
+     * carimbo de data e para relogios um pouco diferentes entre instancias.
+     */
+    private static final Duration SOBREPOSICAO = Duration.ofMinutes(1);
+
+    private final RepositoryFacade repository;
+    private final Cache<Chave, Usuario> cache;
+    private final Cache<UUID, Instant> revogacoes;
+
+    private volatile LocalDateTime ultimaVarredura;
+
+    public PrincipalJwtResolver(
+            RepositoryFacade repository,
+            MeterRegistry meterRegistry,
+            @Value("${allservice.seguranca.principal.tamanho-maximo:10000}") long tamanhoMaximo,
+            @Value("${allservice.seguranca.principal.ttl:5m}") Duration ttl,
+            @Value("${allservice.seguranca.principal.revogacao-retencao:1h}") Duration retencaoRevogacao
+    ) {
+        this.repository = repository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(tamanhoMaximo)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        this.revogacoes = Caffeine.newBuilder()
+                .expireAfterWrite(retencaoRevogacao)
+                .build();
+        this.ultimaVarredura = LocalDateTime.now().minus(retencaoRevogacao);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "principal-jwt");
+    }
+
+    public UsuarioAutenticado resolver(JwtAuthenticationToken authentication) {
+        Jwt jwt = authentication.getToken();
+        Chave chave = new Chave(jwt.getSubject(), jwt.getId());
+        String id = jwt.getClaimAsString("id");
+        String perfil = jwt.getClaimAsString("authority");
+        String status = jwt.getClaimAsString("statusUsuario");
+
+        if (id == null || perfil == null || revogado(UUID.fromString(id), jwt.getIssuedAt())) {
+            // token sem claims de usuario, ou emitido antes da ultima alteracao: vale o banco
+            Usuario usuario = carregar(chave);
+            return usuario != null ? UsuarioAutenticado.de(usuario) : null;
+        }
+
+        return UsuarioAutenticado.doToken(
+                UUID.fromString(id),
+                jwt.getSubject(),
+                TipoPerfil.valueOf(perfil),
+                status != null ? StatusUsuario.valueOf(status) : null,
+                jwt.getClaimAsString("email"),
+                jwt.getClaimAsString("nome"),
+                jwt.getClaimAsString("funcao"),
+                () -> carregar(chave));
+    }
+
+    /**
+     * Tokens do usuario emitidos ate agora deixam de valer pelas claims, e os
+     * principals em cache sao descartados. Dentro de uma transacao repete no
+     * commit, para que uma leitura no meio nao guarde o estado antigo.
+     */
+    public void revogar(UUID id) {
+        marcar(id, Instant.now());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    marcar(id, Instant.now());
+                }
+            });
+        }
+    }
+
+    /**
+     * Traz as alteracoes e exclusoes de usuarios feitas em outras instancias.
+     */
+    @Scheduled(fixedDelayString = "${allservice.seguranca.principal.revogacao-sincronizacao:30s}")
+    public void sincronizarRevogacoes() {
+        LocalDateTime agora = LocalDateTime.now();
+        LocalDateTime desde = ultimaVarredura.minus(SOBREPOSICAO);
+
+        repository.usuarioRepository.findByDataAtualizacaoAfter(desde)
+                .forEach(usuario -> marcar(usuario.getId(), instante(usuario.getDataAtualizacao())));
+        repository.registroExcluidoRepository.findByEntidadeAndDataExclusaoAfter(TipoEntidade.USUARIO, desde)
+                .forEach(excluido -> marcar(excluido.getIdRegistro(), instante(excluido.getDataExclusao())));
+
+        ultimaVarredura = agora;
+    }
+
+    private boolean revogado(UUID id, Instant emitidoEm) {
+        Instant revogacao = revogacoes.getIfPresent(id);
+        return revogacao != null && (emitidoEm == null || !emitidoEm.isAfter(revogacao));
+    }
+
+    private void marcar(UUID id, Instant instante) {
+        revogacoes.asMap().merge(id, instante, (atual, novo) -> novo.isAfter(atual) ? novo : atual);
+        cache.asMap().values().removeIf(usuario -> id.equals(usuario.getId()));
+    }
+
+    private static Instant instante(LocalDateTime data) {
+        return data.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
+    private Usuario carregar(Chave chave) {
+        return cache.get(chave, c -> repository.usuarioRepository.findByLogin(c.login()).orElse(null));
+    }
+
+    private record Chave(String login, String jti) {
+    }
+}
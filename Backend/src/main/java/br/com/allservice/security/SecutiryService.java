@@ -1,25 +1,31 @@
 package br.com.allservice.security;
 
 import br.com.allservice.domain.Usuario;
-import br.com.allservice.service.UsuarioService;
-import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
 @Component
-@RequiredArgsConstructor
 public class SecutiryService {
 
-    private final UsuarioService service;
-
-    public Usuario getUsuario() {
+    /**
+     * Dados do usuario logado vindos do token ou do login, sem consultar o banco.
+     */
+    public UsuarioAutenticado getUsuarioAutenticado() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
         if(authentication instanceof CustomAuthentication auth){
-            return auth.getUsuario();
+            return auth.getUsuarioAutenticado();
         }
 
         return null;
     }
+
+    /**
+     * Entidade do usuario logado; so consulta o banco na primeira chamada da requisicao.
+     */
+    public Usuario getUsuario() {
+        UsuarioAutenticado usuario = getUsuarioAutenticado();
+        return usuario != null ? usuario.getUsuario() : null;
+    }
 }
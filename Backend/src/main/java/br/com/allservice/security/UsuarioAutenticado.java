@@ -0,0 +1,88 @@
+package br.com.allservice.security;
+
+import br.com.allservice.domain.Usuario;
+import br.com.allservice.enums.StatusUsuario;
+import br.com.allservice.enums.TipoPerfil;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Principal da aplicacao. Guarda os dados do usuario que vem no token
+ * (ou no login) e so carrega a entidade Usuario quando alguem pede por ela.
+ */
+@Getter
+public class UsuarioAutenticado {
+
+    private final UUID id;
+    private final String login;
+    private final TipoPerfil perfil;
+    private final StatusUsuario statusUsuario;
+    private final String email;
+    private final String nome;
+    private final String funcao;
+
+    @Getter(AccessLevel.NONE)
+    private final Supplier<Usuario> carregador;
+
+    @Getter(AccessLevel.NONE)
+    private volatile Usuario usuario;
+
+    private UsuarioAutenticado(UUID id, String login, TipoPerfil perfil, StatusUsuario statusUsuario,
+                               String email, String nome, String funcao, Supplier<Usuario> carregador) {
+        this.id = id;
+        this.login = login;
+        this.perfil = perfil;
+        this.statusUsuario = statusUsuario;
+        this.email = email;
+        this.nome = nome;
+        this.funcao = funcao;
+        this.carregador = carregador;
+    }
+
+    /**
+     * Principal de um usuario ja carregado, como no login por formulario.
+     */
+    public static UsuarioAutenticado de(Usuario usuario) {
+        UsuarioAutenticado autenticado = new UsuarioAutenticado(
+                usuario.getId(),
+                usuario.getLogin(),
+                usuario.getPerfil(),
+                usuario.getStatusUsuario(),
+                usuario.getEmail(),
+                usuario.getNome(),
+                usuario.getFuncao(),
+                () -> usuario);
+        autenticado.usuario = usuario;
+        return autenticado;
+    }
+
+    /**
+     * Principal montado com as claims do token; o carregador so e chamado
+     * no primeiro getUsuario().
+     */
+    public static UsuarioAutenticado doToken(UUID id, String login, TipoPerfil perfil, StatusUsuario statusUsuario,
+                                             String email, String nome, String funcao, Supplier<Usuario> carregador) {
+        return new UsuarioAutenticado(id, login, perfil, statusUsuario, email, nome, funcao, carregador);
+    }
+
+    public Usuario getUsuario() {
+        Usuario carregado = usuario;
+        if (carregado == null) {
+            synchronized (this) {
+                carregado = usuario;
+                if (carregado == null) {
+                    carregado = carregador.get();
+                    usuario = carregado;
+                }
+            }
+        }
+        return carregado;
+    }
+
+    public boolean isCarregado() {
+        return usuario != null;
+    }
+}
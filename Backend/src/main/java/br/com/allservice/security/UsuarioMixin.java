@@ -0,0 +1,18 @@
+package br.com.allservice.security;
+
+import com.fasterxml.jackson.annotation.JsonAutoDetect;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+
+/**
+ * Usuario como fica guardado junto da autorizacao OAuth2: sem o hash da
+ * senha e sem os campos de auditoria e busca.
+ */
+@JsonTypeInfo(use = JsonTypeInfo.Id.CLASS)
+@JsonAutoDetect(
+        fieldVisibility = JsonAutoDetect.Visibility.ANY,
+        getterVisibility = JsonAutoDetect.Visibility.NONE,
+        isGetterVisibility = JsonAutoDetect.Visibility.NONE)
+@JsonIgnoreProperties(value = {"senha", "nomeBusca", "dataCriacao", "dataAtualizacao", "seqAlteracao", "xidAlteracao"}, ignoreUnknown = true)
+abstract class UsuarioMixin {
+}
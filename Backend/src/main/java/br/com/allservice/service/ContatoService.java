@@ -1,6 +1,9 @@
 package br.com.allservice.service;
 
+import br.com.allservice.controller.dto.AlteracoesDTO;
 import br.com.allservice.controller.dto.ContatoDTO;
+import br.com.allservice.controller.dto.PaginaCursorDTO;
+import br.com.allservice.controller.dto.PaginaSliceDTO;
 import br.com.allservice.enums.TipoSetor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
@@ -20,10 +23,31 @@ public interface ContatoService extends GenericService {
             Integer quantidade
     );
 
+    ResponseEntity<PaginaCursorDTO<ContatoDTO>> filterCursor(
+            String nomeEmpresa,
+            String responsavel,
+            TipoSetor setor,
+            String telefone,
+            String email,
+            String cursor,
+            Integer quantidade
+    );
+
+    ResponseEntity<PaginaSliceDTO<ContatoDTO>> filterSlice(
+            String nomeEmpresa,
+            String responsavel,
+            TipoSetor setor,
+            String telefone,
+            String email,
+            Integer pagina,
+            Integer quantidade
+    );
+
     ResponseEntity<ContatoDTO> findById(UUID id);
 
     ResponseEntity<Object> update(UUID id, ContatoDTO c);
 
     ResponseEntity<Void> delete(UUID id);
 
-}
\ No newline at end of file
+    ResponseEntity<AlteracoesDTO<ContatoDTO>> alteracoes(String desde, Integer quantidade);
+}
@@ -1,9 +1,14 @@
 package br.com.allservice.service;
 
+import br.com.allservice.controller.dto.AlteracoesDTO;
 import br.com.allservice.controller.dto.EmpresaDTO;
+import br.com.allservice.controller.dto.PaginaCursorDTO;
+import br.com.allservice.controller.dto.PaginaSliceDTO;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 public interface EmpresaService extends GenericService {
@@ -17,9 +22,29 @@ public interface EmpresaService extends GenericService {
             Integer quantidade
     );
 
+    ResponseEntity<PaginaCursorDTO<EmpresaDTO>> filterCursor(
+            String razaoSocial,
+            String cnpj,
+            String endereco,
+            String cursor,
+            Integer quantidade
+    );
+
+    ResponseEntity<PaginaSliceDTO<EmpresaDTO>> filterSlice(
+            String razaoSocial,
+            String cnpj,
+            String endereco,
+            Integer pagina,
+            Integer quantidade
+    );
+
     ResponseEntity<EmpresaDTO> findById(UUID id);
 
+    ResponseEntity<Map<UUID, EmpresaDTO>> findAllById(Collection<UUID> ids);
+
     ResponseEntity<Object> update(UUID id, EmpresaDTO e);
 
     ResponseEntity<Void> delete(UUID id);
+
+    ResponseEntity<AlteracoesDTO<EmpresaDTO>> alteracoes(String desde, Integer quantidade);
 }
@@ -0,0 +1,12 @@
+package br.com.allservice.service;
+
+import br.com.allservice.domain.ServicoEvento;
+
+import java.util.List;
+
+/**
+ * Publicado pelo ServicoService a cada gravacao ou exclusao de servicos;
+ * os ouvintes recebem depois do commit.
+ */
+public record ServicoAlteradoEvent(List<ServicoEvento> eventos) {
+}
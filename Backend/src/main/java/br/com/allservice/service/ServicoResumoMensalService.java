@@ -0,0 +1,33 @@
+package br.com.allservice.service;
+
+import br.com.allservice.controller.dto.ReconstrucaoResumoMensalDTO;
+import br.com.allservice.controller.dto.ServicoResumoMensalDTO;
+import br.com.allservice.domain.Servico;
+import org.springframework.http.ResponseEntity;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface ServicoResumoMensalService {
+
+    /**
+     * Soma o servico no grupo do seu mes. Deve rodar na mesma transacao da gravacao.
+     */
+    void lancar(Servico servico);
+
+    /**
+     * Soma varios servicos com um unico delta por grupo, para gravacoes em lote.
+     */
+    void lancar(Collection<Servico> servicos);
+
+    /**
+     * Retira o servico do grupo do seu mes, com os valores ainda nao alterados.
+     */
+    void estornar(Servico servico);
+
+    ResponseEntity<List<ServicoResumoMensalDTO>> listar(String inicio, String fim);
+
+    ResponseEntity<ReconstrucaoResumoMensalDTO> reconstruir();
+
+    boolean vazio();
+}
@@ -1,38 +1,78 @@
 package br.com.allservice.service;
 
+import br.com.allservice.controller.dto.AlteracoesDTO;
+import br.com.allservice.controller.dto.PaginaCursorDTO;
+import br.com.allservice.controller.dto.PaginaSliceDTO;
+import br.com.allservice.controller.dto.ResultadoLoteDTO;
 import br.com.allservice.controller.dto.ServicoDTO;
-import br.com.allservice.enums.StatusServico;
-import br.com.allservice.enums.TipoImposto;
-import br.com.allservice.enums.TipoPagamento;
+import br.com.allservice.controller.dto.ServicoEstatisticasDTO;
+import br.com.allservice.controller.dto.ServicoEventoDTO;
+import br.com.allservice.controller.dto.ServicoFiltroDTO;
+import br.com.allservice.controller.dto.ServicoResumoDTO;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.math.BigDecimal;
-import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 
 public interface ServicoService extends GenericService {
     ResponseEntity<Object> save(ServicoDTO servico);
 
+    ResponseEntity<ResultadoLoteDTO> saveLote(List<ServicoDTO> servicos);
+
     ResponseEntity<Page<ServicoDTO>> filter(
-            String notaFiscal,
-            String mesAno,
-            String ano,
-            String nomeEmpresa,
-            StatusServico status,
-            TipoImposto imposto,
-            TipoPagamento tipoPagamento,
-            BigDecimal valorTotal,
-            LocalDate dataVencimento,
-            LocalDate data,
+            ServicoFiltroDTO filtro,
+            Integer pagina,
+            Integer quantidade
+    );
+
+    ResponseEntity<Page<Map<String, Object>>> filterCampos(
+            ServicoFiltroDTO filtro,
+            Integer pagina,
+            Integer quantidade,
+            String fields
+    );
+
+    ResponseEntity<Page<ServicoResumoDTO>> filterResumo(
+            ServicoFiltroDTO filtro,
+            Integer pagina,
+            Integer quantidade
+    );
+
+    ResponseEntity<PaginaCursorDTO<ServicoDTO>> filterCursor(
+            ServicoFiltroDTO filtro,
+            String cursor,
+            Integer quantidade
+    );
+
+    ResponseEntity<PaginaSliceDTO<ServicoDTO>> filterSlice(
+            ServicoFiltroDTO filtro,
             Integer pagina,
             Integer quantidade
     );
 
+    ResponseEntity<ServicoEstatisticasDTO> estatisticas(ServicoFiltroDTO filtro, String referencia);
+
+    ResponseEntity<StreamingResponseBody> exportar(ServicoFiltroDTO filtro, String formato);
+
     ResponseEntity<ServicoDTO> findById(UUID id);
 
+    ResponseEntity<Map<String, Object>> findByIdCampos(UUID id, String fields);
+
     ResponseEntity<Object> update(UUID id, ServicoDTO servico);
 
+    ResponseEntity<Object> patch(UUID id, JsonNode alteracoes);
+
     ResponseEntity<Void> delete(UUID id);
+
+    ResponseEntity<Page<ServicoEventoDTO>> eventos(UUID id, Integer pagina, Integer quantidade);
+
+    ResponseEntity<SseEmitter> assinarEventos();
+
+    ResponseEntity<AlteracoesDTO<ServicoDTO>> alteracoes(String desde, Integer quantidade);
 }
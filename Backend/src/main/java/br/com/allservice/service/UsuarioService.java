@@ -1,12 +1,17 @@
 package br.com.allservice.service;
 
+import br.com.allservice.controller.dto.AlteracoesDTO;
 import br.com.allservice.controller.dto.UsuarioDTO;
+import br.com.allservice.controller.dto.PaginaCursorDTO;
+import br.com.allservice.controller.dto.PaginaSliceDTO;
 import br.com.allservice.domain.Usuario;
 import br.com.allservice.enums.StatusUsuario;
 import br.com.allservice.enums.TipoPerfil;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.UUID;
 
 public interface UsuarioService extends GenericService {
@@ -21,8 +26,28 @@ public interface UsuarioService extends GenericService {
             Integer quantidade
     );
 
+    ResponseEntity<PaginaCursorDTO<UsuarioDTO>> filterCursor(
+            String nome,
+            String funcao,
+            StatusUsuario statusUsuario,
+            TipoPerfil perfil,
+            String cursor,
+            Integer quantidade
+    );
+
+    ResponseEntity<PaginaSliceDTO<UsuarioDTO>> filterSlice(
+            String nome,
+            String funcao,
+            StatusUsuario statusUsuario,
+            TipoPerfil perfil,
+            Integer pagina,
+            Integer quantidade
+    );
+
     ResponseEntity<UsuarioDTO> findById(UUID id);
 
+    ResponseEntity<Map<UUID, UsuarioDTO>> findAllById(Collection<UUID> ids);
+
     Usuario findByLogin(String Login);
 
     Usuario findByEmail(String email);
@@ -30,4 +55,6 @@ public interface UsuarioService extends GenericService {
     ResponseEntity<Object> update(UUID id, UsuarioDTO u);
 
     ResponseEntity<Void> delete(UUID id);
+
+    ResponseEntity<AlteracoesDTO<UsuarioDTO>> alteracoes(String desde, Integer quantidade);
 }
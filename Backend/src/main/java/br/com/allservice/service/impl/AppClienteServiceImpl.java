@@ -2,6 +2,7 @@ package br.com.allservice.service.impl;
 
 import br.com.allservice.domain.AppCliente;
 import br.com.allservice.repository.RepositoryFacade;
+import br.com.allservice.security.CustomRegisteredClientRepository;
 import br.com.allservice.service.AppClienteService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -12,10 +13,12 @@ import org.springframework.stereotype.Service;
 public class AppClienteServiceImpl implements AppClienteService {
 
     private final RepositoryFacade repository;
+    private final CustomRegisteredClientRepository registeredClientRepository;
 
     @Override
     public void save(AppCliente appCliente) {
-        repository.appClienteRepository.save(appCliente);
+        var salvo = repository.appClienteRepository.save(appCliente);
+        registeredClientRepository.atualizar(salvo);
     }
 
     @Override
@@ -1,11 +1,18 @@
 package br.com.allservice.service.impl;
 
+import br.com.allservice.controller.dto.AlteracoesDTO;
 import br.com.allservice.controller.dto.ContatoDTO;
+import br.com.allservice.controller.dto.PaginaCursorDTO;
+import br.com.allservice.controller.dto.PaginaSliceDTO;
 import br.com.allservice.controller.mappers.ContatoMapper;
 import br.com.allservice.domain.Contato;
+import br.com.allservice.domain.RegistroExcluido;
+import br.com.allservice.enums.TipoEntidade;
 import br.com.allservice.enums.TipoSetor;
 import br.com.allservice.repository.RepositoryFacade;
+import br.com.allservice.repository.specs.CursorSpecs;
 import br.com.allservice.service.ContatoService;
+import br.com.allservice.util.Cursor;
 import br.com.allservice.validator.ValidatorFacade;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -14,7 +21,9 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -28,6 +37,7 @@ public class ContatoServiceImpl implements ContatoService {
     private final RepositoryFacade repository;
     private final ValidatorFacade validator;
     private final ContatoMapper mapper;
+    private final SincronizacaoAlteracoes sincronizacao;
 
     @Override
     public ResponseEntity<Object> save(ContatoDTO c) {
@@ -50,38 +60,67 @@ public class ContatoServiceImpl implements ContatoService {
             Integer quantidade
     ) {
 
-        Specification<Contato> specs = Specification.unrestricted();
+        Pageable pageableRequest = PageRequest.of(pagina, quantidade, CursorSpecs.ordem("dataCriacao"));
 
-        if (nomeEmpresa != null && !nomeEmpresa.isBlank()) {
-            specs = specs.and(nomeEmpresaLike(nomeEmpresa));
-        }
+        var contatos = repository.contatoRepository.findAll(montarSpecs(nomeEmpresa, responsavel, setor, telefone, email), pageableRequest);
 
-        if (responsavel != null && !responsavel.isBlank()) {
-            specs = specs.and(responsavelLike(responsavel));
-        }
+        Page<ContatoDTO> contatoResultado = contatos.map(mapper::toDto);
 
-        if (setor != null) {
-            specs = specs.and(setorEqual(setor));
-        }
+        return ResponseEntity.ok(contatoResultado);
 
-        if (telefone != null && !telefone.isBlank()) {
-            specs = specs.and(telefoneEqual(telefone));
-        }
+    }
 
-        if (email != null && !email.isBlank()) {
-            specs = specs.and(emailEqual(email));
-        }
+    @Override
+    public ResponseEntity<PaginaCursorDTO<ContatoDTO>> filterCursor(
+            String nomeEmpresa,
+            String responsavel,
+            TipoSetor setor,
+            String telefone,
+            String email,
+            String cursor,
+            Integer quantidade
+    ) {
 
-        Pageable pageableRequest = PageRequest.of(pagina, quantidade);
+        int limite = PaginaCursorDTO.limitar(quantidade);
+        Specification<Contato> specs = montarSpecs(nomeEmpresa, responsavel, setor, telefone, email);
 
-        var contatos = repository.contatoRepository.findAll(specs, pageableRequest);
+        if (cursor != null && !cursor.isBlank()) {
+            var posicao = Cursor.decodificar(cursor);
+            specs = specs.and(CursorSpecs.apos("dataCriacao", LocalDateTime.parse(posicao.chave()), posicao.id()));
+        }
 
-        Page<ContatoDTO> contatoResultado = contatos.map(mapper::toDto);
+        var contatos = repository.contatoRepository.findBy(specs, q -> q
+                .sortBy(CursorSpecs.ordem("dataCriacao"))
+                .limit(limite + 1)
+                .all());
 
-        return ResponseEntity.ok(contatoResultado);
+        return ResponseEntity.ok(PaginaCursorDTO.of(
+                contatos,
+                limite,
+                contato -> new Cursor(contato.getDataCriacao().toString(), contato.getId()),
+                mapper::toDto
+        ));
 
     }
 
+    @Override
+    public ResponseEntity<PaginaSliceDTO<ContatoDTO>> filterSlice(
+            String nomeEmpresa,
+            String responsavel,
+            TipoSetor setor,
+            String telefone,
+            String email,
+            Integer pagina,
+            Integer quantidade
+    ) {
+
+        Pageable pageableRequest = PageRequest.of(pagina, quantidade, CursorSpecs.ordem("dataCriacao"));
+
+        var contatos = repository.contatoRepository.findBy(montarSpecs(nomeEmpresa, responsavel, setor, telefone, email), q -> q.slice(pageableRequest));
+
+        return ResponseEntity.ok(PaginaSliceDTO.of(contatos, mapper::toDto, null));
+
+    }
 
     @Override
     public ResponseEntity<ContatoDTO> findById(UUID id) {
@@ -119,11 +158,21 @@ public class ContatoServiceImpl implements ContatoService {
     }
 
     @Override
+    public ResponseEntity<AlteracoesDTO<ContatoDTO>> alteracoes(String desde, Integer quantidade) {
+
+        return ResponseEntity.ok(sincronizacao.alteracoes(
+                TipoEntidade.CONTATO, Contato.class, desde, quantidade, mapper::toDto));
+
+    }
+
+    @Override
+    @Transactional
     public ResponseEntity<Void> delete(UUID id) {
 
         Optional<Contato> contato = repository.contatoRepository.findById(id);
         if (contato.isPresent()) {
             repository.contatoRepository.delete(contato.get());
+            repository.registroExcluidoRepository.save(RegistroExcluido.de(TipoEntidade.CONTATO, id));
             return ResponseEntity.noContent().build();
         } else {
             return ResponseEntity.notFound().build();
@@ -131,4 +180,37 @@ public class ContatoServiceImpl implements ContatoService {
 
     }
 
+    private Specification<Contato> montarSpecs(
+            String nomeEmpresa,
+            String responsavel,
+            TipoSetor setor,
+            String telefone,
+            String email
+    ) {
+
+        Specification<Contato> specs = Specification.unrestricted();
+
+        if (nomeEmpresa != null && !nomeEmpresa.isBlank()) {
+            specs = specs.and(nomeEmpresaLike(nomeEmpresa));
+        }
+
+        if (responsavel != null && !responsavel.isBlank()) {
+            specs = specs.and(responsavelLike(responsavel));
+        }
+
+        if (setor != null) {
+            specs = specs.and(setorEqual(setor));
+        }
+
+        if (telefone != null && !telefone.isBlank()) {
+            specs = specs.and(telefoneEqual(telefone));
+        }
+
+        if (email != null && !email.isBlank()) {
+            specs = specs.and(emailEqual(email));
+        }
+
+        return specs;
+    }
+
 }
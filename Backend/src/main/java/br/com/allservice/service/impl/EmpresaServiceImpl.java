@@ -1,10 +1,18 @@
 package br.com.allservice.service.impl;
 
+import br.com.allservice.controller.dto.AlteracoesDTO;
 import br.com.allservice.controller.dto.EmpresaDTO;
+import br.com.allservice.controller.dto.PaginaCursorDTO;
+import br.com.allservice.controller.dto.PaginaSliceDTO;
 import br.com.allservice.controller.mappers.EmpresaMapper;
 import br.com.allservice.domain.Empresa;
+import br.com.allservice.domain.RegistroExcluido;
+import br.com.allservice.enums.TipoEntidade;
+import br.com.allservice.execptions.ParametroInvalidoException;
 import br.com.allservice.repository.RepositoryFacade;
+import br.com.allservice.repository.specs.CursorSpecs;
 import br.com.allservice.service.EmpresaService;
+import br.com.allservice.util.Cursor;
 import br.com.allservice.validator.ValidatorFacade;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -13,9 +21,15 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static br.com.allservice.repository.specs.EmpresaSpecs.*;
 
@@ -23,9 +37,12 @@ import static br.com.allservice.repository.specs.EmpresaSpecs.*;
 @RequiredArgsConstructor
 @Service
 public class EmpresaServiceImpl implements EmpresaService {
+
+    private static final int LIMITE_IDS = 1000;
     private final RepositoryFacade repository;
     private final ValidatorFacade validator;
     private final EmpresaMapper mapper;
+    private final SincronizacaoAlteracoes sincronizacao;
 
     @Override
     public ResponseEntity<Object> save(EmpresaDTO e) {
@@ -47,28 +64,61 @@ public class EmpresaServiceImpl implements EmpresaService {
             Integer quantidade
     ) {
 
-        Specification<Empresa> specs = Specification.unrestricted();
+        Pageable pageableRequest = PageRequest.of(pagina, quantidade, CursorSpecs.ordem("dataCriacao"));
 
-        if (razaoSocial != null && !razaoSocial.isBlank()) {
-            specs = specs.and(razaoSociallLike(razaoSocial));
-        }
+        var empresas = repository.empresaRepository.findAll(montarSpecs(razaoSocial, cnpj, endereco), pageableRequest);
 
-        if (cnpj != null && !cnpj.isBlank()) {
-            specs = specs.and(cnpjEqual(cnpj));
-        }
+        Page<EmpresaDTO> empresaResultado = empresas.map(mapper::toDto);
 
-        if (endereco != null && !endereco.isBlank()) {
-            specs = specs.and(enderecolLike(endereco));
+        return ResponseEntity.ok(empresaResultado);
+
+    }
+
+    @Override
+    public ResponseEntity<PaginaCursorDTO<EmpresaDTO>> filterCursor(
+            String razaoSocial,
+            String cnpj,
+            String endereco,
+            String cursor,
+            Integer quantidade
+    ) {
+
+        int limite = PaginaCursorDTO.limitar(quantidade);
+        Specification<Empresa> specs = montarSpecs(razaoSocial, cnpj, endereco);
+
+        if (cursor != null && !cursor.isBlank()) {
+            var posicao = Cursor.decodificar(cursor);
+            specs = specs.and(CursorSpecs.apos("dataCriacao", LocalDateTime.parse(posicao.chave()), posicao.id()));
         }
 
+        var empresas = repository.empresaRepository.findBy(specs, q -> q
+                .sortBy(CursorSpecs.ordem("dataCriacao"))
+                .limit(limite + 1)
+                .all());
 
-        Pageable pageableRequest = PageRequest.of(pagina, quantidade);
+        return ResponseEntity.ok(PaginaCursorDTO.of(
+                empresas,
+                limite,
+                empresa -> new Cursor(empresa.getDataCriacao().toString(), empresa.getId()),
+                mapper::toDto
+        ));
 
-        var empresas = repository.empresaRepository.findAll(specs, pageableRequest);
+    }
 
-        Page<EmpresaDTO> empresaResultado = empresas.map(mapper::toDto);
+    @Override
+    public ResponseEntity<PaginaSliceDTO<EmpresaDTO>> filterSlice(
+            String razaoSocial,
+            String cnpj,
+            String endereco,
+            Integer pagina,
+            Integer quantidade
+    ) {
 
-        return ResponseEntity.ok(empresaResultado);
+        Pageable pageableRequest = PageRequest.of(pagina, quantidade, CursorSpecs.ordem("dataCriacao"));
+
+        var empresas = repository.empresaRepository.findBy(montarSpecs(razaoSocial, cnpj, endereco), q -> q.slice(pageableRequest));
+
+        return ResponseEntity.ok(PaginaSliceDTO.of(empresas, mapper::toDto, null));
 
     }
 
@@ -82,6 +132,20 @@ public class EmpresaServiceImpl implements EmpresaService {
 
     }
 
+    @Override
+    public ResponseEntity<Map<UUID, EmpresaDTO>> findAllById(Collection<UUID> ids) {
+
+        if (ids.size() > LIMITE_IDS) {
+            throw new ParametroInvalidoException("maximo de " + LIMITE_IDS + " ids por consulta");
+        }
+
+        var empresas = repository.empresaRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Empresa::getId, mapper::toDto, (a, b) -> a, LinkedHashMap::new));
+
+        return ResponseEntity.ok(empresas);
+
+    }
+
     @Override
     public ResponseEntity<Object> update(UUID id, EmpresaDTO e) {
 
@@ -104,11 +168,21 @@ public class EmpresaServiceImpl implements EmpresaService {
     }
 
     @Override
+    public ResponseEntity<AlteracoesDTO<EmpresaDTO>> alteracoes(String desde, Integer quantidade) {
+
+        return ResponseEntity.ok(sincronizacao.alteracoes(
+                TipoEntidade.EMPRESA, Empresa.class, desde, quantidade, mapper::toDto));
+
+    }
+
+    @Override
+    @Transactional
     public ResponseEntity<Void> delete(UUID id) {
 
         Optional<Empresa> empresa = repository.empresaRepository.findById(id);
         if (empresa.isPresent()) {
             repository.empresaRepository.delete(empresa.get());
+            repository.registroExcluidoRepository.save(RegistroExcluido.de(TipoEntidade.EMPRESA, id));
             return ResponseEntity.noContent().build();
         } else {
             return ResponseEntity.notFound().build();
@@ -116,4 +190,27 @@ public class EmpresaServiceImpl implements EmpresaService {
 
     }
 
-}
\ No newline at end of file
+    private Specification<Empresa> montarSpecs(
+            String razaoSocial,
+            String cnpj,
+            String endereco
+    ) {
+
+        Specification<Empresa> specs = Specification.unrestricted();
+
+        if (razaoSocial != null && !razaoSocial.isBlank()) {
+            specs = specs.and(razaoSociallLike(razaoSocial));
+        }
+
+        if (cnpj != null && !cnpj.isBlank()) {
+            specs = specs.and(cnpjEqual(cnpj));
+        }
+
+        if (endereco != null && !endereco.isBlank()) {
+            specs = specs.and(enderecolLike(endereco));
+        }
+
+        return specs;
+    }
+
+}
@@ -1,8 +1,8 @@
 package br.com.allservice.service.impl;
 
-import br.com.allservice.domain.Usuario;
 import br.com.allservice.security.CustomAuthentication;
-import br.com.allservice.service.UsuarioService;
+import br.com.allservice.security.PrincipalJwtResolver;
+import br.com.allservice.security.UsuarioAutenticado;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -20,7 +20,7 @@ import java.io.IOException;
 @RequiredArgsConstructor
 public class JwtCustomAutheticationFilterImpl extends OncePerRequestFilter {
 
-    private final UsuarioService usuarioService;
+    private final PrincipalJwtResolver principalResolver;
 
     @Override
     protected void doFilterInternal(
@@ -30,9 +30,8 @@ public class JwtCustomAutheticationFilterImpl extends OncePerRequestFilter {
 
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
 
-        if(isJwtAuthenticationToken(authentication)){
-            String login = authentication.getName();
-            Usuario usuario = usuarioService.findByLogin(login);
+        if(authentication instanceof JwtAuthenticationToken jwtAuthentication){
+            UsuarioAutenticado usuario = principalResolver.resolver(jwtAuthentication);
             if(usuario != null){
                 authentication = new CustomAuthentication(usuario);
                 SecurityContextHolder.getContext().setAuthentication(authentication);
@@ -41,8 +40,4 @@ public class JwtCustomAutheticationFilterImpl extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
 
     }
-
-    private boolean isJwtAuthenticationToken(Authentication authentication ){
-       return  authentication != null && authentication instanceof JwtAuthenticationToken;
-    }
 }
@@ -0,0 +1,353 @@
+package br.com.allservice.service.impl;
+
+import br.com.allservice.domain.Servico;
+import br.com.allservice.domain.ServicoEvento;
+import br.com.allservice.enums.StatusServico;
+import br.com.allservice.enums.TipoEventoServico;
+import br.com.allservice.repository.RepositoryFacade;
+import br.com.allservice.security.SecutiryService;
+import br.com.allservice.security.UsuarioAutenticado;
+import br.com.allservice.service.ServicoAlteradoEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Historico de alteracoes dos servicos. O diff e montado na thread da
+ * requisicao, mas a gravacao fica com uma thread propria que esvazia uma
+ * fila limitada em lotes. Com a fila cheia, ou depois do desligamento,
+ * o evento e gravado direto por quem o gerou. Um lote que falha e repetido
+ * algumas vezes com espera crescente e, se ainda falhar, gravado evento a
+ * evento; so se perde o evento que o banco recusar sozinho.
+ */
+@Slf4j
+@Component
+public class ServicoAuditoria {
+
+    private static final List<Campo> CAMPOS = List.of(
+            new Campo("data", Servico::getData),
+            new Campo("notaFiscal", Servico::getNotaFiscal),
+            new Campo("valorTotal", Servico::getValorTotal),
+            new Campo("imposto", Servico::getImposto),
+            new Campo("valorImposto", Servico::getValorImposto),
+            new Campo("valorLiquido", Servico::getValorLiquido),
+            new Campo("tipoPagamento", Servico::getTipoPagamento),
+            new Campo("status", Servico::getStatus),
+            new Campo("dataVencimento", Servico::getDataVencimento),
+            new Campo("idEmpresa", s -> s.getEmpresa() == null ? null : s.getEmpresa().getId()),
+            new Campo("idUsuario", s -> s.getUsuario() == null ? null : s.getUsuario().getId()),
+            new Campo("clienteCertificado", Servico::getClienteCertificado),
+            new Campo("quantidadePecas", Servico::getQuantidadePecas),
+            new Campo("descricaoPeca", Servico::getDescricaoPeca),
+            new Campo("diametroPeca", Servico::getDiametroPeca),
+            new Campo("larguraPeca", Servico::getLarguraPeca),
+            new Campo("larguraTotalPeca", Servico::getLarguraTotalPeca),
+            new Campo("pesoPeca", Servico::getPesoPeca),
+            new Campo("rpmPeca", Servico::getRpmPeca),
+            new Campo("observacao", Servico::getObservacao),
+            new Campo("observacaoInterna", Servico::getObservacaoInterna),
+            new Campo("planoUmPermitido", Servico::getPlanoUmPermitido),
+            new Campo("planoDoisPermitido", Servico::getPlanoDoisPermitido),
+            new Campo("planoUmEncontrado", Servico::getPlanoUmEncontrado),
+            new Campo("planoDoisEncontrado", Servico::getPlanoDoisEncontrado),
+            new Campo("raioPlanoUm", Servico::getRaioPlanoUm),
+            new Campo("raioPlanoDois", Servico::getRaioPlanoDois),
+            new Campo("remanescentePlanoUm", Servico::getRemanescentePlanoUm),
+            new Campo("remanescentePlanoDois", Servico::getRemanescentePlanoDois)
+    );
+
+    private final RepositoryFacade repository;
+    private final SecutiryService secutiryService;
+    private final ApplicationEventPublisher publisher;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transacao;
+    private final BlockingQueue<ServicoEvento> fila;
+    private final int tamanhoLote;
+    private final Duration esperaDesligamento;
+    private final int tentativas;
+    private final Duration espera;
+    private final Counter gravados;
+    private final Counter gravacoesDiretas;
+    private final Counter falhas;
+
+    private volatile boolean ativo;
+    private Thread gravador;
+
+    public ServicoAuditoria(
+            RepositoryFacade repository,
+            SecutiryService secutiryService,
+            ApplicationEventPublisher publisher,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            MeterRegistry meterRegistry,
+            @Value("${allservice.auditoria.fila:10000}") int capacidadeFila,
+            @Value("${allservice.auditoria.lote:500}") int tamanhoLote,
+            @Value("${allservice.auditoria.espera-desligamento:10s}") Duration esperaDesligamento,
+            @Value("${allservice.auditoria.tentativas:3}") int tentativas,
+            @Value("${allservice.auditoria.espera:200ms}") Duration espera
+    ) {
+        this.repository = repository;
+        this.secutiryService = secutiryService;
+        this.publisher = publisher;
+        this.objectMapper = objectMapper;
+        this.transacao = new TransactionTemplate(transactionManager);
+        // a gravacao direta roda no AFTER_COMMIT, com a transacao da requisicao
+        // ainda vinculada e ja commitada: sem transacao nova nada seria gravado
+        this.transacao.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.fila = new ArrayBlockingQueue<>(capacidadeFila);
+        this.tamanhoLote = tamanhoLote;
+        this.esperaDesligamento = esperaDesligamento;
+        this.tentativas = tentativas;
+        this.espera = espera;
+        this.gravados = Counter.builder("allservice.auditoria.gravados").register(meterRegistry);
+        this.gravacoesDiretas = Counter.builder("allservice.auditoria.gravacoes.diretas").register(meterRegistry);
+        this.falhas = Counter.builder("allservice.auditoria.falhas").register(meterRegistry);
+        Gauge.builder("allservice.auditoria.fila", fila, Collection::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    void iniciar() {
+        ativo = true;
+        gravador = new CustomizableThreadFactory("servico-auditoria-").newThread(this::drenar);
+        gravador.start();
+    }
+
+    /**
+     * Para de aceitar eventos na fila e espera o gravador esvaziar o que restou.
+     * Roda antes do EntityManagerFactory ser fechado, que e dependencia deste bean.
+     */
+    @PreDestroy
+    void desligar() throws InterruptedException {
+        ativo = false;
+        gravador.join(esperaDesligamento.toMillis());
+
+        List<ServicoEvento> restantes = new ArrayList<>();
+        fila.drainTo(restantes);
+        if (!restantes.isEmpty()) {
+            log.warn("{} eventos de servico gravados no desligamento", restantes.size());
+            gravar(restantes);
+        }
+    }
+
+    public void criacao(Servico servico) {
+        criacao(List.of(servico));
+    }
+
+    public void criacao(List<Servico> servicos) {
+        publicar(servicos.stream()
+                .map(servico -> evento(servico, TipoEventoServico.CRIACAO, null, servico.getStatus(), null))
+                .toList());
+    }
+
+    /**
+     * Copia dos campos auditados; tirada antes de alterar a entidade gerenciada.
+     */
+    public Retrato retrato(Servico servico) {
+        return new Retrato(servico.getStatus(), CAMPOS.stream().map(campo -> campo.valor().apply(servico)).toList());
+    }
+
+    /**
+     * Registra o diff entre o retrato tirado antes da alteracao e o estado atual do servico.
+     */
+    public void alteracao(Retrato antes, Servico depois) {
+        Map<String, Map<String, Object>> diferencas = diferencas(antes, depois);
+        if (diferencas.isEmpty()) {
+            return;
+        }
+        publicar(List.of(evento(depois, TipoEventoServico.ALTERACAO, antes.status(), depois.getStatus(), json(diferencas))));
+    }
+
+    public void exclusao(Servico servico) {
+        publicar(List.of(evento(servico, TipoEventoServico.EXCLUSAO, servico.getStatus(), null, null)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void enfileirar(ServicoAlteradoEvent evento) {
+        List<ServicoEvento> excedentes = new ArrayList<>();
+        for (ServicoEvento e : evento.eventos()) {
+            if (!ativo || !fila.offer(e)) {
+                excedentes.add(e);
+            }
+        }
+        if (!excedentes.isEmpty()) {
+            gravacoesDiretas.increment(excedentes.size());
+            gravar(excedentes);
+        }
+    }
+
+    private void drenar() {
+        List<ServicoEvento> lote = new ArrayList<>(tamanhoLote);
+        while (ativo || !fila.isEmpty()) {
+            try {
+                ServicoEvento primeiro = fila.poll(1, TimeUnit.SECONDS);
+                if (primeiro == null) {
+                    continue;
+                }
+                lote.add(primeiro);
+                fila.drainTo(lote, tamanhoLote - 1);
+                gravar(lote);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            } finally {
+                lote.clear();
+            }
+        }
+    }
+
+    private void gravar(List<ServicoEvento> eventos) {
+        for (int i = 0; i < eventos.size(); i += tamanhoLote) {
+            var lote = eventos.subList(i, Math.min(i + tamanhoLote, eventos.size()));
+            if (gravarLote(lote)) {
+                gravados.increment(lote.size());
+            } else {
+                gravarUmAUm(lote);
+            }
+        }
+    }
+
+    /**
+     * Tenta o lote inteiro ate {@code tentativas} vezes, dobrando a espera entre elas.
+     */
+    private boolean gravarLote(List<ServicoEvento> lote) {
+        long pausa = espera.toMillis();
+        for (int tentativa = 1; tentativa <= tentativas; tentativa++) {
+            try {
+                inserir(lote);
+                return true;
+            } catch (RuntimeException e) {
+                log.warn("falha ao gravar lote de {} eventos de servico (tentativa {} de {})",
+                        lote.size(), tentativa, tentativas, e);
+            }
+            if (tentativa < tentativas && !pausar(pausa)) {
+                break;
+            }
+            pausa *= 2;
+        }
+        return false;
+    }
+
+    private void gravarUmAUm(List<ServicoEvento> lote) {
+        int recusados = 0;
+        for (ServicoEvento evento : lote) {
+            try {
+                inserir(List.of(evento));
+                gravados.increment();
+            } catch (RuntimeException e) {
+                recusados++;
+                log.error("evento de servico descartado: {}", evento, e);
+            }
+        }
+        if (recusados > 0) {
+            falhas.increment(recusados);
+            log.error("{} de {} eventos de servico nao gravados", recusados, lote.size());
+        }
+    }
+
+    /**
+     * O id gerado numa tentativa que voltou atras fica na entidade; sem limpar,
+     * a proxima tentativa viraria merge em vez de insert.
+     */
+    private void inserir(List<ServicoEvento> eventos) {
+        eventos.forEach(evento -> evento.setId(null));
+        transacao.executeWithoutResult(status -> repository.servicoEventoRepository.saveAll(eventos));
+    }
+
+    private static boolean pausar(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void publicar(List<ServicoEvento> eventos) {
+        if (!eventos.isEmpty()) {
+            publisher.publishEvent(new ServicoAlteradoEvent(eventos));
+        }
+    }
+
+    private ServicoEvento evento(Servico servico, TipoEventoServico tipo, StatusServico statusAnterior, StatusServico statusNovo, String alteracoes) {
+        UsuarioAutenticado usuario = secutiryService.getUsuarioAutenticado();
+        return ServicoEvento.builder()
+                .idServico(servico.getId())
+                .tipo(tipo)
+                .statusAnterior(statusAnterior)
+                .statusNovo(statusNovo)
+                .alteracoes(alteracoes)
+                .idUsuario(usuario == null ? null : usuario.getId())
+                .login(usuario == null ? null : usuario.getLogin())
+                .dataEvento(LocalDateTime.now())
+                .build();
+    }
+
+    private static Map<String, Map<String, Object>> diferencas(Retrato antes, Servico depois) {
+        Map<String, Map<String, Object>> diferencas = new LinkedHashMap<>();
+        for (int i = 0; i < CAMPOS.size(); i++) {
+            Campo campo = CAMPOS.get(i);
+            Object de = antes.valores().get(i);
+            Object para = campo.valor().apply(depois);
+            if (!iguais(de, para)) {
+                Map<String, Object> mudanca = new LinkedHashMap<>();
+                mudanca.put("de", de);
+                mudanca.put("para", para);
+                diferencas.put(campo.nome(), mudanca);
+            }
+        }
+        return diferencas;
+    }
+
+    private static boolean iguais(Object de, Object para) {
+        if (de instanceof BigDecimal a && para instanceof BigDecimal b) {
+            return a.compareTo(b) == 0;
+        }
+        return Objects.equals(de, para);
+    }
+
+    private String json(Map<String, Map<String, Object>> diferencas) {
+        try {
+            return objectMapper.writeValueAsString(diferencas);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record Campo(String nome, Function<Servico, Object> valor) {
+    }
+
+    /**
+     * Valores de CAMPOS, na mesma ordem, e o status anterior.
+     */
+    public record Retrato(StatusServico status, List<Object> valores) {
+    }
+}
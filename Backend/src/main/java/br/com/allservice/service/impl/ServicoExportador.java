@@ -0,0 +1,184 @@
+package br.com.allservice.service.impl;
+
+import br.com.allservice.domain.Empresa;
+import br.com.allservice.domain.Servico;
+import br.com.allservice.execptions.ParametroInvalidoException;
+import br.com.allservice.repository.RepositoryFacade;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Escreve servicos em CSV (separado por ';', como o export do frontend) ou NDJSON
+ * direto na resposta, linha a linha, a partir de um cursor do banco.
+ */
+@Component
+public class ServicoExportador {
+
+    /**
+     * Linhas escritas entre cada flush; o cliente recebe os primeiros bytes sem esperar o fim da consulta.
+     */
+    private static final int LINHAS_POR_FLUSH = 500;
+
+    private static final List<Coluna> COLUNAS = List.of(
+            new Coluna("id", Servico::getId),
+            new Coluna("data", Servico::getData),
+            new Coluna("notaFiscal", Servico::getNotaFiscal),
+            new Coluna("cnpjEmpresa", s -> empresa(s, Empresa::getCnpj)),
+            new Coluna("razaoSocial", s -> empresa(s, Empresa::getRazaoSocial)),
+            new Coluna("valorTotal", Servico::getValorTotal),
+            new Coluna("imposto", Servico::getImposto),
+            new Coluna("valorImposto", Servico::getValorImposto),
+            new Coluna("valorLiquido", Servico::getValorLiquido),
+            new Coluna("tipoPagamento", Servico::getTipoPagamento),
+            new Coluna("status", Servico::getStatus),
+            new Coluna("dataVencimento", Servico::getDataVencimento),
+            new Coluna("clienteCertificado", Servico::getClienteCertificado),
+            new Coluna("quantidadePecas", Servico::getQuantidadePecas),
+            new Coluna("descricaoPeca", Servico::getDescricaoPeca),
+            new Coluna("observacao", Servico::getObservacao)
+    );
+
+    private final RepositoryFacade repository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transacaoLeitura;
+
+    public ServicoExportador(RepositoryFacade repository, ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.repository = repository;
+        this.objectMapper = objectMapper;
+        this.transacaoLeitura = new TransactionTemplate(transactionManager);
+        this.transacaoLeitura.setReadOnly(true);
+    }
+
+    public ResponseEntity<StreamingResponseBody> exportar(Specification<Servico> specs, Sort ordem, String formato) {
+
+        Formato f = Formato.de(formato);
+
+        StreamingResponseBody corpo = saida -> {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(saida, StandardCharsets.UTF_8));
+            transacaoLeitura.executeWithoutResult(status -> {
+                try (var servicos = repository.servicoRepository.streamAll(specs, ordem)) {
+                    if (f == Formato.CSV) {
+                        escrever(writer, COLUNAS.stream().map(Coluna::nome).collect(Collectors.joining(";")));
+                    }
+                    int[] linhas = {0};
+                    servicos.forEach(servico -> {
+                        escrever(writer, f == Formato.CSV ? linhaCsv(servico) : linhaJson(servico));
+                        if (++linhas[0] % LINHAS_POR_FLUSH == 0) {
+                            flush(writer);
+                        }
+                    });
+                }
+            });
+            writer.flush();
+        };
+
+        return ResponseEntity.ok()
+                .contentType(f.mediaType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("servicos." + f.extensao)
+                        .build()
+                        .toString())
+                .body(corpo);
+
+    }
+
+    private static String linhaCsv(Servico servico) {
+        return COLUNAS.stream()
+                .map(c -> escaparCsv(c.valor().apply(servico)))
+                .collect(Collectors.joining(";"));
+    }
+
+    private String linhaJson(Servico servico) {
+        Map<String, Object> linha = new LinkedHashMap<>();
+        for (Coluna c : COLUNAS) {
+            Object valor = c.valor().apply(servico);
+            linha.put(c.nome(), valor instanceof Number || valor == null ? valor : valor.toString());
+        }
+        try {
+            return objectMapper.writeValueAsString(linha);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String escaparCsv(Object valor) {
+        if (valor == null) {
+            return "";
+        }
+        String s = valor.toString();
+        boolean precisaAspas = s.indexOf('"') >= 0 || s.indexOf(';') >= 0 || s.indexOf('\n') >= 0 || s.indexOf('\r') >= 0;
+        String escapado = s.replace("\"", "\"\"");
+        return precisaAspas ? '"' + escapado + '"' : escapado;
+    }
+
+    private static Object empresa(Servico servico, Function<Empresa, Object> campo) {
+        return Optional.ofNullable(servico.getEmpresa()).map(campo).orElse(null);
+    }
+
+    private static void escrever(Writer writer, String linha) {
+        try {
+            writer.write(linha);
+            writer.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void flush(Writer writer) {
+        try {
+            writer.flush();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private record Coluna(String nome, Function<Servico, Object> valor) {
+    }
+
+    private enum Formato {
+        CSV(new MediaType("text", "csv", StandardCharsets.UTF_8), "csv"),
+        NDJSON(MediaType.APPLICATION_NDJSON, "ndjson");
+
+        private final MediaType mediaType;
+        private final String extensao;
+
+        Formato(MediaType mediaType, String extensao) {
+            this.mediaType = mediaType;
+            this.extensao = extensao;
+        }
+
+        static Formato de(String formato) {
+            if (formato == null || formato.isBlank()) {
+                return CSV;
+            }
+            try {
+                return valueOf(formato.toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new ParametroInvalidoException("formato invalido: " + formato);
+            }
+        }
+    }
+}
@@ -0,0 +1,260 @@
+package br.com.allservice.service.impl;
+
+import br.com.allservice.controller.mappers.ServicoEventoMapper;
+import br.com.allservice.domain.ServicoEvento;
+import br.com.allservice.enums.TipoEventoServico;
+import br.com.allservice.execptions.ServicoSobrecarregadoException;
+import br.com.allservice.service.ServicoAlteradoEvent;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Envia as alteracoes de servicos por Server-Sent Events. Cada assinante
+ * tem uma fila limitada; quando ela enche as notificacoes mais antigas sao
+ * descartadas e o cliente recebe um evento "descartados" com a quantidade,
+ * sinal para recarregar a lista. O envio roda fora da thread que fez o
+ * commit, numa tarefa por assinante. O send do SseEmitter bloqueia: o pool
+ * cresce sob demanda para que um cliente parado so prenda a propria thread,
+ * e o heartbeat derruba quem esta ha mais de tempo-escrita numa escrita.
+ */
+@Slf4j
+@Component
+public class ServicoNotificador {
+
+    private static final String EVENTO_DESCARTADOS = "descartados";
+    private static final String EVENTO_STATUS = "status";
+
+    private final ServicoEventoMapper mapper;
+    private final ObjectMapper objectMapper;
+    private final Set<Assinante> assinantes = ConcurrentHashMap.newKeySet();
+    private final ExecutorService envio;
+    private final int maximoAssinantes;
+    private final int capacidadeFila;
+    private final Duration timeout;
+    private final long tempoEscrita;
+    private final Counter descartados;
+
+    public ServicoNotificador(
+            ServicoEventoMapper mapper,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${allservice.sse.threads:2}") int threads,
+            @Value("${allservice.sse.maximo-assinantes:500}") int maximoAssinantes,
+            @Value("${allservice.sse.fila:256}") int capacidadeFila,
+            @Value("${allservice.sse.timeout:30m}") Duration timeout,
+            @Value("${allservice.sse.tempo-escrita:10s}") Duration tempoEscrita
+    ) {
+        this.mapper = mapper;
+        this.objectMapper = objectMapper;
+        this.envio = new ThreadPoolExecutor(threads, Integer.MAX_VALUE, 60, TimeUnit.SECONDS,
+                new SynchronousQueue<>(), new CustomizableThreadFactory("servico-sse-"));
+        this.maximoAssinantes = maximoAssinantes;
+        this.capacidadeFila = capacidadeFila;
+        this.timeout = timeout;
+        this.tempoEscrita = tempoEscrita.toNanos();
+        this.descartados = Counter.builder("allservice.sse.descartados").register(meterRegistry);
+        Gauge.builder("allservice.sse.assinantes", assinantes, Set::size).register(meterRegistry);
+    }
+
+    public SseEmitter assinar() {
+        if (assinantes.size() >= maximoAssinantes) {
+            throw new ServicoSobrecarregadoException("Limite de conexoes de eventos atingido, tente novamente em instantes");
+        }
+
+        SseEmitter emitter = new SseEmitter(timeout.toMillis());
+        Assinante assinante = new Assinante(emitter, capacidadeFila);
+        emitter.onCompletion(() -> assinantes.remove(assinante));
+        emitter.onTimeout(() -> assinantes.remove(assinante));
+        emitter.onError(e -> assinantes.remove(assinante));
+        assinantes.add(assinante);
+
+        publicar(assinante, SseEmitter.event().comment("conectado").build());
+        return emitter;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void notificar(ServicoAlteradoEvent evento) {
+        if (assinantes.isEmpty()) {
+            return;
+        }
+
+        List<Set<DataWithMediaType>> mensagens = evento.eventos().stream()
+                .map(this::mensagem)
+                .toList();
+
+        for (Assinante assinante : assinantes) {
+            mensagens.forEach(assinante::oferecer);
+            agendar(assinante);
+        }
+    }
+
+    @Scheduled(fixedRateString = "${allservice.sse.heartbeat:15s}")
+    public void heartbeat() {
+        Set<DataWithMediaType> ping = SseEmitter.event().comment("ping").build();
+        long agora = System.nanoTime();
+        for (Assinante assinante : assinantes) {
+            if (assinante.escrevendoHaMais(tempoEscrita, agora)) {
+                derrubar(assinante);
+            } else {
+                publicar(assinante, ping);
+            }
+        }
+    }
+
+    @PreDestroy
+    void desligar() {
+        assinantes.forEach(assinante -> assinante.emitter.complete());
+        envio.shutdown();
+    }
+
+    private void publicar(Assinante assinante, Set<DataWithMediaType> mensagem) {
+        assinante.oferecer(mensagem);
+        agendar(assinante);
+    }
+
+    /**
+     * Garante no maximo uma tarefa de envio por assinante; um cliente lento
+     * prende a propria thread ate ser derrubado pelo heartbeat.
+     */
+    private void agendar(Assinante assinante) {
+        if (assinante.agendado.compareAndSet(false, true)) {
+            envio.execute(() -> enviar(assinante));
+        }
+    }
+
+    private void enviar(Assinante assinante) {
+        try {
+            long perdidas = assinante.perdidas.getAndSet(0);
+            if (perdidas > 0) {
+                assinante.escrever(SseEmitter.event().name(EVENTO_DESCARTADOS).data(perdidas).build());
+            }
+            Set<DataWithMediaType> mensagem;
+            while (!assinante.derrubado && (mensagem = assinante.fila.poll()) != null) {
+                assinante.escrever(mensagem);
+            }
+        } catch (IOException | IllegalStateException e) {
+            log.debug("assinante de eventos de servico desconectado: {}", e.getMessage());
+            assinantes.remove(assinante);
+            assinante.derrubado = true;
+        } finally {
+            assinante.agendado.set(false);
+        }
+
+        if (assinante.derrubado) {
+            assinante.fila.clear();
+            assinante.emitter.complete();
+        } else if (!assinante.fila.isEmpty() && assinantes.contains(assinante)) {
+            agendar(assinante);
+        }
+    }
+
+    /**
+     * O complete do SseEmitter espera o send em andamento, entao quem derruba
+     * so tira o assinante da lista e interrompe a escrita; a propria tarefa de
+     * envio completa o emitter quando o send devolver, no mais tardar pelo
+     * timeout de escrita do conector.
+     */
+    private void derrubar(Assinante assinante) {
+        log.debug("assinante de eventos de servico derrubado: escrita parada");
+        assinantes.remove(assinante);
+        assinante.derrubado = true;
+        Thread escritor = assinante.escritor;
+        if (escritor != null) {
+            escritor.interrupt();
+        }
+    }
+
+    private Set<DataWithMediaType> mensagem(ServicoEvento evento) {
+        return SseEmitter.event()
+                .name(nome(evento))
+                .data(json(evento))
+                .build();
+    }
+
+    private static String nome(ServicoEvento evento) {
+        if (evento.getTipo() == TipoEventoServico.ALTERACAO && evento.getStatusAnterior() != evento.getStatusNovo()) {
+            return EVENTO_STATUS;
+        }
+        return evento.getTipo().name().toLowerCase();
+    }
+
+    private String json(ServicoEvento evento) {
+        try {
+            return objectMapper.writeValueAsString(mapper.toNotificacao(evento));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private final class Assinante {
+
+        private final SseEmitter emitter;
+        private final BlockingQueue<Set<DataWithMediaType>> fila;
+        private final AtomicBoolean agendado = new AtomicBoolean();
+        private final AtomicLong perdidas = new AtomicLong();
+        private volatile Thread escritor;
+        private volatile long escrevendoDesde;
+        private volatile boolean derrubado;
+
+        private Assinante(SseEmitter emitter, int capacidade) {
+            this.emitter = emitter;
+            this.fila = new ArrayBlockingQueue<>(capacidade);
+        }
+
+        private void escrever(Set<DataWithMediaType> mensagem) throws IOException {
+            escrevendoDesde = System.nanoTime();
+            escritor = Thread.currentThread();
+            try {
+                emitter.send(mensagem);
+            } finally {
+                escritor = null;
+                if (derrubado) {
+                    Thread.interrupted();
+                }
+            }
+        }
+
+        private boolean escrevendoHaMais(long limite, long agora) {
+            return escritor != null && agora - escrevendoDesde > limite;
+        }
+
+        /**
+         * Politica de descarte: com a fila cheia sai a notificacao mais antiga.
+         */
+        private void oferecer(Set<DataWithMediaType> mensagem) {
+            while (!fila.offer(mensagem)) {
+                if (fila.poll() != null) {
+                    perdidas.incrementAndGet();
+                    descartados.increment();
+                }
+            }
+        }
+    }
+}
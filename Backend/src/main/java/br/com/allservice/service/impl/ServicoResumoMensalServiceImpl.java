@@ -0,0 +1,183 @@
+package br.com.allservice.service.impl;
+
+import br.com.allservice.controller.dto.ReconstrucaoResumoMensalDTO;
+import br.com.allservice.controller.dto.ServicoResumoMensalDTO;
+import br.com.allservice.controller.mappers.ServicoResumoMensalMapper;
+import br.com.allservice.domain.Servico;
+import br.com.allservice.domain.ServicoResumoMensal;
+import br.com.allservice.repository.RepositoryFacade;
+import br.com.allservice.service.ServicoResumoMensalService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+@Slf4j
+@RequiredArgsConstructor
+@Service
+public class ServicoResumoMensalServiceImpl implements ServicoResumoMensalService {
+
+    private final RepositoryFacade repository;
+    private final ServicoResumoMensalMapper mapper;
+
+    @Value("${spring.sql.init.platform:postgresql}")
+    private String plataforma;
+
+    @Override
+    public void lancar(Servico servico) {
+        aplicar(List.of(servico), 1);
+    }
+
+    @Override
+    public void lancar(Collection<Servico> servicos) {
+        servicos.stream()
+                .collect(Collectors.groupingBy(ServicoResumoMensalServiceImpl::chave, LinkedHashMap::new, Collectors.toList()))
+                .values()
+                .forEach(grupo -> aplicar(grupo, 1));
+    }
+
+    @Override
+    public void estornar(Servico servico) {
+        aplicar(List.of(servico), -1);
+    }
+
+    @Override
+    public ResponseEntity<List<ServicoResumoMensalDTO>> listar(String inicio, String fim) {
+
+        YearMonth mesInicio = inicio != null && !inicio.isBlank() ? YearMonth.parse(inicio) : YearMonth.of(1900, 1);
+        YearMonth mesFim = fim != null && !fim.isBlank() ? YearMonth.parse(fim) : YearMonth.of(9999, 12);
+
+        var resumos = repository.servicoResumoMensalRepository
+                .findByMesBetweenOrderByMesAsc(mesInicio.atDay(1), mesFim.atDay(1))
+                .stream()
+                .filter(r -> r.getQuantidade() > 0)
+                .map(mapper::toDto)
+                .toList();
+
+        return ResponseEntity.ok(resumos);
+
+    }
+
+    /**
+     * Le os agregados e sobrescreve o resumo com valores absolutos. Sem a trava,
+     * um servico gravado entre as duas leituras teria o delta apagado pela
+     * sobrescrita. No H2 dos testes nao ha LOCK TABLE.
+     */
+    @Override
+    @Transactional
+    public ResponseEntity<ReconstrucaoResumoMensalDTO> reconstruir() {
+
+        if ("postgresql".equals(plataforma)) {
+            repository.servicoRepository.travarGravacoes();
+        }
+
+        var resumoRepository = repository.servicoResumoMensalRepository;
+
+        Map<String, ServicoResumoMensal> esperado = repository.servicoRepository.calcularResumoMensal().stream()
+                .collect(Collectors.toMap(ServicoResumoMensal::getChave, Function.identity()));
+        Map<String, ServicoResumoMensal> gravado = resumoRepository.findAll().stream()
+                .collect(Collectors.toMap(ServicoResumoMensal::getChave, Function.identity()));
+
+        List<String> divergentes = Stream.concat(esperado.keySet().stream(), gravado.keySet().stream())
+                .distinct()
+                .filter(chave -> !mesmosTotais(esperado.get(chave), gravado.get(chave)))
+                .sorted()
+                .toList();
+
+        gravado.values().stream()
+                .filter(r -> !esperado.containsKey(r.getChave()))
+                .forEach(resumoRepository::delete);
+
+        esperado.values().forEach(e -> {
+            var r = gravado.get(e.getChave());
+            if (r == null) {
+                resumoRepository.save(e);
+            } else {
+                r.setQuantidade(e.getQuantidade());
+                r.setValorTotal(e.getValorTotal());
+                r.setValorImposto(e.getValorImposto());
+                r.setValorLiquido(e.getValorLiquido());
+            }
+        });
+
+        if (!divergentes.isEmpty()) {
+            log.warn("Resumo mensal reconstruido com {} grupos divergentes: {}", divergentes.size(), divergentes);
+        }
+
+        return ResponseEntity.ok(new ReconstrucaoResumoMensalDTO(esperado.size(), divergentes.size(), divergentes));
+
+    }
+
+    @Override
+    public boolean vazio() {
+        return repository.servicoResumoMensalRepository.count() == 0;
+    }
+
+    /**
+     * Aplica o delta de servicos que pertencem ao mesmo grupo (mesma chave).
+     */
+    private void aplicar(List<Servico> grupo, int sinal) {
+
+        var servico = grupo.get(0);
+        var chave = chave(servico);
+        long quantidade = (long) sinal * grupo.size();
+        var valorTotal = somar(grupo, Servico::getValorTotal, sinal);
+        var valorImposto = somar(grupo, Servico::getValorImposto, sinal);
+        var valorLiquido = somar(grupo, Servico::getValorLiquido, sinal);
+
+        repository.servicoResumoMensalRepository.acumular(
+                chave,
+                YearMonth.from(servico.getData()).atDay(1),
+                servico.getStatus(),
+                servico.getImposto(),
+                servico.getTipoPagamento(),
+                quantidade,
+                valorTotal,
+                valorImposto,
+                valorLiquido);
+
+    }
+
+    private static String chave(Servico servico) {
+        return ServicoResumoMensal.chave(YearMonth.from(servico.getData()),
+                servico.getStatus(), servico.getImposto(), servico.getTipoPagamento());
+    }
+
+    private static BigDecimal somar(List<Servico> grupo, Function<Servico, BigDecimal> valor, int sinal) {
+        var soma = grupo.stream()
+                .map(valor)
+                .filter(Objects::nonNull)
+                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return sinal < 0 ? soma.negate() : soma;
+    }
+
+    private static boolean mesmosTotais(ServicoResumoMensal esperado, ServicoResumoMensal atual) {
+        if (esperado == null || atual == null) {
+            var existente = esperado == null ? atual : esperado;
+            return existente == null || (existente.getQuantidade() == 0
+                    && existente.getValorTotal().signum() == 0
+                    && existente.getValorLiquido().signum() == 0);
+        }
+        return esperado.getQuantidade() == atual.getQuantidade()
+                && mesmoValor(esperado.getValorTotal(), atual.getValorTotal())
+                && mesmoValor(esperado.getValorImposto(), atual.getValorImposto())
+                && mesmoValor(esperado.getValorLiquido(), atual.getValorLiquido());
+    }
+
+    private static boolean mesmoValor(BigDecimal a, BigDecimal b) {
+        return Objects.equals(a, b) || (a != null && b != null && a.compareTo(b) == 0);
+    }
+}
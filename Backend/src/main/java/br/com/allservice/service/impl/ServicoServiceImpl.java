@@ -1,26 +1,66 @@
 package br.com.allservice.service.impl;
 
+import br.com.allservice.controller.dto.AlteracoesDTO;
+import br.com.allservice.controller.dto.PaginaCursorDTO;
+import br.com.allservice.controller.dto.ItemLoteDTO;
+import br.com.allservice.controller.dto.PaginaSliceDTO;
+import br.com.allservice.controller.dto.ResultadoLoteDTO;
 import br.com.allservice.controller.dto.ServicoDTO;
+import br.com.allservice.controller.dto.ServicoAgregadoDTO;
+import br.com.allservice.controller.dto.ServicoEstatisticasDTO;
+import br.com.allservice.controller.dto.ServicoEventoDTO;
+import br.com.allservice.controller.dto.ServicoFiltroDTO;
+import br.com.allservice.controller.dto.ServicoResumoDTO;
+import br.com.allservice.controller.mappers.ServicoEventoMapper;
 import br.com.allservice.controller.mappers.ServicoMapper;
+import br.com.allservice.domain.Empresa;
+import br.com.allservice.domain.RegistroExcluido;
 import br.com.allservice.domain.Servico;
-import br.com.allservice.enums.StatusServico;
-import br.com.allservice.enums.TipoImposto;
-import br.com.allservice.enums.TipoPagamento;
+import br.com.allservice.domain.Usuario;
+import br.com.allservice.enums.TipoEntidade;
+import br.com.allservice.execptions.ParametroInvalidoException;
+import br.com.allservice.execptions.ServicoSobrecarregadoException;
 import br.com.allservice.repository.RepositoryFacade;
+import br.com.allservice.repository.ServicoRepository;
+import br.com.allservice.repository.specs.CursorSpecs;
+import br.com.allservice.service.ServicoResumoMensalService;
 import br.com.allservice.service.ServicoService;
+import br.com.allservice.util.ContagemEmCache;
+import br.com.allservice.util.Cursor;
+import br.com.allservice.util.MergePatch;
 import br.com.allservice.validator.ValidatorFacade;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.lang.reflect.RecordComponent;
 import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
 import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import static br.com.allservice.repository.specs.ServicoSpecs.*;
 
@@ -32,88 +72,232 @@ public class ServicoServiceImpl implements ServicoService {
     private final RepositoryFacade repository;
     private final ValidatorFacade validator;
     private final ServicoMapper mapper;
-
+    private final SincronizacaoAlteracoes sincronizacao;
+    private final ServicoResumoMensalService resumoMensal;
+    private final ServicoExportador exportador;
+    private final ServicoAuditoria auditoria;
+    private final ServicoEventoMapper eventoMapper;
+    private final ServicoNotificador notificador;
+    private final ObjectMapper objectMapper;
+
+    private static final int LIMITE_LOTE = 10_000;
+    private static final int TAMANHO_NOTA_FISCAL = 10;
+    private static final int TOP_EMPRESAS = 10;
+    private static final String OUTRAS_EMPRESAS = "OUTRAS";
+    private static final Set<String> CAMPOS_PATCH = Arrays.stream(ServicoDTO.class.getRecordComponents())
+            .map(RecordComponent::getName)
+            .filter(campo -> !Set.of("id", "empresaDTO", "usuarioDTO").contains(campo))
+            .collect(Collectors.toUnmodifiableSet());
+
+    /**
+     * Colunas NOT NULL e chaves que o mapper converte; null no patch seria um 500.
+     */
+    private static final Set<String> CAMPOS_OBRIGATORIOS = Set.of("data", "idEmpresa", "idUsuario");
+
+    private final ContagemEmCache totalServicos = new ContagemEmCache(this::contarServicos, Duration.ofMinutes(5));
+
+    @Transactional
     public ResponseEntity<Object> save(ServicoDTO s) {
 
         validator.servicoValidator.validar(mapper.toEntity(s));
         var saved = repository.servicoRepository.save(mapper.toEntity(s));
+        resumoMensal.lancar(saved);
+        auditoria.criacao(saved);
 
         return ResponseEntity.created(gerarHeaderLocation(saved.getId())).build();
 
     }
 
+    @Override
+    @Transactional
+    public ResponseEntity<ResultadoLoteDTO> saveLote(List<ServicoDTO> lote) {
+
+        if (lote.size() > LIMITE_LOTE) {
+            throw new ParametroInvalidoException("lote excede o limite de " + LIMITE_LOTE + " servicos");
+        }
+
+        Map<UUID, Empresa> empresas = repository.empresaRepository.findAllById(ids(lote, ServicoDTO::idEmpresa)).stream()
+                .collect(Collectors.toMap(Empresa::getId, Function.identity()));
+        Map<UUID, Usuario> usuarios = repository.usuarioRepository.findAllById(ids(lote, ServicoDTO::idUsuario)).stream()
+                .collect(Collectors.toMap(Usuario::getId, Function.identity()));
+        List<String> notasFiscais = notasFiscais(lote);
+        Set<String> notasCadastradas = notasFiscais.isEmpty()
+                ? Set.of()
+                : repository.servicoRepository.findNotasFiscaisExistentes(notasFiscais);
+        Set<String> notasDoLote = new HashSet<>();
+
+        ItemLoteDTO[] itens = new ItemLoteDTO[lote.size()];
+        List<Servico> novos = new ArrayList<>();
+        List<Integer> posicoes = new ArrayList<>();
+
+        for (int i = 0; i < lote.size(); i++) {
+            var dto = lote.get(i);
+            var erro = validarItemLote(dto, empresas, usuarios, notasCadastradas, notasDoLote);
+            if (erro != null) {
+                itens[i] = ItemLoteDTO.rejeitado(i, dto == null ? null : dto.notaFiscal(), erro);
+                continue;
+            }
+            try {
+                var servico = mapper.toEntitySemRelacionamentos(dto);
+                servico.setId(null);
+                servico.setEmpresa(empresas.get(uuid(dto.idEmpresa())));
+                servico.setUsuario(usuarios.get(uuid(dto.idUsuario())));
+                novos.add(servico);
+                posicoes.add(i);
+            } catch (IllegalArgumentException e) {
+                itens[i] = ItemLoteDTO.rejeitado(i, dto.notaFiscal(), e.getMessage());
+            }
+        }
+
+        var salvos = repository.servicoRepository.saveAllEmLote(novos);
+        resumoMensal.lancar(salvos);
+        auditoria.criacao(salvos);
+
+        for (int k = 0; k < salvos.size(); k++) {
+            int i = posicoes.get(k);
+            itens[i] = ItemLoteDTO.criado(i, salvos.get(k).getNotaFiscal(), salvos.get(k).getId());
+        }
+
+        return ResponseEntity.ok(ResultadoLoteDTO.of(Arrays.asList(itens)));
+
+    }
+
     @Override
     public ResponseEntity<Page<ServicoDTO>> filter(
-            String notaFiscal,
-            String mesAno,
-            String ano,
-            String nomeEmpresa,
-            StatusServico status,
-            TipoImposto imposto,
-            TipoPagamento tipoPagamento,
-            BigDecimal valorTotal,
-            LocalDate dataVencimento,
-            LocalDate data,
+            ServicoFiltroDTO filtro,
             Integer pagina,
             Integer quantidade
     ) {
 
-        Specification<Servico> specs = Specification.unrestricted();
+        Pageable pageableRequest = PageRequest.of(pagina, quantidade, CursorSpecs.ordem("data"));
 
-        if (notaFiscal != null && !notaFiscal.isBlank()) {
-            specs = specs.and(notaFiscalEqual(notaFiscal));
-        }
+        var servicos = repository.servicoRepository.findAll(montarSpecs(filtro), pageableRequest);
 
-        if (mesAno != null && !mesAno.isBlank()) {
-            specs = specs.and(mesAnoEqual(mesAno));
-        }
+        Page<ServicoDTO> servicoResultado = servicos.map(mapper::toDto);
 
-        if (ano != null && !ano.isBlank()) {
-            specs = specs.and(anoEqual(ano));
-        }
+        return ResponseEntity.ok(servicoResultado);
 
-        if (nomeEmpresa != null && !nomeEmpresa.isBlank()) {
-            specs = specs.and(nomeEmpresaLike(nomeEmpresa));
-        }
+    }
 
-        if (status != null) {
-            specs = specs.and(statusServicoEqual(status));
-        }
+    @Override
+    public ResponseEntity<Page<Map<String, Object>>> filterCampos(
+            ServicoFiltroDTO filtro,
+            Integer pagina,
+            Integer quantidade,
+            String fields
+    ) {
 
-        if (imposto != null) {
-            specs = specs.and(tipoImpostoEqual(imposto));
-        }
+        Pageable pageableRequest = PageRequest.of(pagina, quantidade, CursorSpecs.ordem("data"));
 
-        if (tipoPagamento != null) {
-            specs = specs.and(tipoPagamentoEqual(tipoPagamento));
-        }
+        return ResponseEntity.ok(repository.servicoRepository.findCampos(montarSpecs(filtro), pageableRequest, campos(fields)));
 
-        if (valorTotal != null) {
-            specs = specs.and(valorTotalEqual(valorTotal));
-        }
+    }
 
-        if (dataVencimento != null) {
-            specs = specs.and(dataVencimentoEqual(dataVencimento));
-        }
+    @Override
+    public ResponseEntity<Page<ServicoResumoDTO>> filterResumo(
+            ServicoFiltroDTO filtro,
+            Integer pagina,
+            Integer quantidade
+    ) {
+
+        Pageable pageableRequest = PageRequest.of(pagina, quantidade, CursorSpecs.ordem("data"));
+
+        return ResponseEntity.ok(repository.servicoRepository.findResumos(montarSpecs(filtro), pageableRequest));
+
+    }
+
+    @Override
+    public ResponseEntity<PaginaCursorDTO<ServicoDTO>> filterCursor(
+            ServicoFiltroDTO filtro,
+            String cursor,
+            Integer quantidade
+    ) {
+
+        int limite = PaginaCursorDTO.limitar(quantidade);
+        Specification<Servico> specs = montarSpecs(filtro);
 
-        if (data != null) {
-            specs = specs.and(dataEqual(data));
+        if (cursor != null && !cursor.isBlank()) {
+            var posicao = Cursor.decodificar(cursor);
+            specs = specs.and(CursorSpecs.apos("data", LocalDate.parse(posicao.chave()), posicao.id()));
         }
 
-        Pageable pageableRequest = PageRequest.of(pagina, quantidade);
+        var servicos = repository.servicoRepository.findBy(specs, q -> q
+                .sortBy(CursorSpecs.ordem("data"))
+                .project(ServicoRepository.GRAFO_DTO)
+                .limit(limite + 1)
+                .all());
 
-        var servicos = repository.servicoRepository.findAll(specs, pageableRequest);
+        return ResponseEntity.ok(PaginaCursorDTO.of(
+                servicos,
+                limite,
+                servico -> new Cursor(servico.getData().toString(), servico.getId()),
+                mapper::toDto
+        ));
 
-        Page<ServicoDTO> servicoResultado = servicos.map(mapper::toDto);
+    }
 
-        return ResponseEntity.ok(servicoResultado);
+    @Override
+    public ResponseEntity<PaginaSliceDTO<ServicoDTO>> filterSlice(
+            ServicoFiltroDTO filtro,
+            Integer pagina,
+            Integer quantidade
+    ) {
+
+        Pageable pageableRequest = PageRequest.of(pagina, quantidade, CursorSpecs.ordem("data"));
+
+        var servicos = repository.servicoRepository.findBy(montarSpecs(filtro), q -> q
+                .project(ServicoRepository.GRAFO_DTO)
+                .slice(pageableRequest));
+
+        Long totalAproximado = filtro.vazio() ? totalServicos.get() : null;
+
+        return ResponseEntity.ok(PaginaSliceDTO.of(servicos, mapper::toDto, totalAproximado));
+
+    }
+
+    @Override
+    public ResponseEntity<ServicoEstatisticasDTO> estatisticas(ServicoFiltroDTO filtro, String referencia) {
+
+        Specification<Servico> specs = montarSpecs(filtro);
+        var servicoRepository = repository.servicoRepository;
+
+        List<ServicoAgregadoDTO> porMes = servicoRepository.agregarPorMes(specs);
+
+        YearMonth periodoReferencia = referencia != null && !referencia.isBlank()
+                ? YearMonth.parse(referencia)
+                : porMes.isEmpty() ? YearMonth.now() : YearMonth.parse(porMes.get(porMes.size() - 1).chave());
+        YearMonth periodoAnterior = periodoReferencia.minusMonths(1);
+
+        ServicoAgregadoDTO atual = totaisDoMes(porMes, periodoReferencia);
+        ServicoAgregadoDTO anterior = totaisDoMes(
+                servicoRepository.agregarPorMes(montarSpecs(filtro.recuadoUmMes()).and(mesEqual(periodoAnterior))),
+                periodoAnterior);
+
+        return ResponseEntity.ok(new ServicoEstatisticasDTO(
+                periodoReferencia.toString(),
+                periodoAnterior.toString(),
+                atual,
+                anterior,
+                variacaoPct(BigDecimal.valueOf(atual.quantidade()), BigDecimal.valueOf(anterior.quantidade())),
+                variacaoPct(atual.valorTotal(), anterior.valorTotal()),
+                variacaoPct(atual.valorLiquido(), anterior.valorLiquido()),
+                porMes,
+                servicoRepository.agregarPorStatus(specs),
+                servicoRepository.agregarPorTipoPagamento(specs),
+                porEmpresa(servicoRepository.agregarPorEmpresa(specs, TOP_EMPRESAS), porMes)
+        ));
 
     }
 
+    @Override
+    public ResponseEntity<StreamingResponseBody> exportar(ServicoFiltroDTO filtro, String formato) {
+        return exportador.exportar(montarSpecs(filtro), CursorSpecs.ordem("data"), formato);
+    }
+
     @Override
     public ResponseEntity<ServicoDTO> findById(UUID id) {
 
-        var servicoOpt = repository.servicoRepository.findById(id);
+        var servicoOpt = repository.servicoRepository.findComRelacionamentosById(id);
         return servicoOpt.map(servico ->
                         ResponseEntity.ok(mapper.toDto(servico)))
                 .orElseGet(() -> ResponseEntity.notFound().build());
@@ -121,31 +305,90 @@ public class ServicoServiceImpl implements ServicoService {
     }
 
     @Override
+    public ResponseEntity<Map<String, Object>> findByIdCampos(UUID id, String fields) {
+
+        var servico = repository.servicoRepository.findCampos(idEqual(id), PageRequest.of(0, 1), campos(fields));
+
+        return servico.stream()
+                .findFirst()
+                .map(ResponseEntity::ok)
+                .orElseGet(() -> ResponseEntity.notFound().build());
+
+    }
+
+    @Override
+    @Transactional
     public ResponseEntity<Object> update(UUID id, ServicoDTO s) {
 
-        validator.servicoValidator.validar(mapper.toEntity(s));
-        Optional<Servico> servicoOpt = repository.servicoRepository.findById(id);
-        if (servicoOpt.isPresent()) {
-            var servico = servicoOpt.get();
+        return repository.servicoRepository.findById(id)
+                .map(servico -> {
+                    aplicarAlteracoes(servico, s);
+                    return ResponseEntity.noContent().build();
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
 
-            var updated = mapper.toEntity(s); //todo - mudar o de/para
-            updated.setId(servico.getId());
+    }
 
-            repository.servicoRepository.save(updated);
+    @Override
+    @Transactional
+    public ResponseEntity<Object> patch(UUID id, JsonNode alteracoes) {
+
+        MergePatch.validar(alteracoes, CAMPOS_PATCH, CAMPOS_OBRIGATORIOS);
+        return repository.servicoRepository.findById(id)
+                .map(servico -> {
+                    JsonNode atual = objectMapper.valueToTree(mapper.toDtoSemRelacionamentos(servico));
+                    aplicarAlteracoes(servico, paraDto(MergePatch.aplicar(atual, alteracoes)));
+                    return ResponseEntity.noContent().build();
+                })
+                .orElseGet(() -> ResponseEntity.notFound().build());
 
-            return ResponseEntity.noContent().build();
-        } else {
-            return ResponseEntity.notFound().build();
+    }
+
+    /**
+     * Valor de tipo errado no patch (texto em campo numerico, data invalida) e erro do cliente.
+     */
+    private ServicoDTO paraDto(JsonNode json) {
+        try {
+            return objectMapper.convertValue(json, ServicoDTO.class);
+        } catch (IllegalArgumentException e) {
+            throw new ParametroInvalidoException("valor invalido no patch");
         }
+    }
+
+    /**
+     * Altera a entidade gerenciada; com @DynamicUpdate o UPDATE leva so as colunas
+     * que mudaram. Auditoria e resumo mensal usam os valores de antes da copia.
+     */
+    private void aplicarAlteracoes(Servico servico, ServicoDTO s) {
+        var candidato = mapper.toEntitySemRelacionamentos(s);
+        candidato.setId(servico.getId());
+        validator.servicoValidator.validar(candidato);
+
+        var antes = auditoria.retrato(servico);
+        resumoMensal.estornar(servico);
+        mapper.atualizar(s, servico);
+        auditoria.alteracao(antes, servico);
+        resumoMensal.lancar(repository.servicoRepository.save(servico));
+    }
+
+    @Override
+    public ResponseEntity<AlteracoesDTO<ServicoDTO>> alteracoes(String desde, Integer quantidade) {
+
+        return ResponseEntity.ok(sincronizacao.alteracoes(
+                TipoEntidade.SERVICO, Servico.class, desde, quantidade, mapper::toDto));
 
     }
 
     @Override
+    @Transactional
     public ResponseEntity<Void> delete(UUID id) {
 
         Optional<Servico> servicoOpt = repository.servicoRepository.findById(id);
         if (servicoOpt.isPresent()) {
+            resumoMensal.estornar(servicoOpt.get());
+            auditoria.exclusao(servicoOpt.get());
             repository.servicoRepository.delete(servicoOpt.get());
+            repository.registroExcluidoRepository.save(RegistroExcluido.de(TipoEntidade.SERVICO, id));
             return ResponseEntity.noContent().build();
         } else {
             return ResponseEntity.notFound().build();
@@ -153,4 +396,231 @@ public class ServicoServiceImpl implements ServicoService {
 
     }
 
+    @Override
+    public ResponseEntity<Page<ServicoEventoDTO>> eventos(UUID id, Integer pagina, Integer quantidade) {
+
+        var eventos = repository.servicoEventoRepository
+                .findByIdServicoOrderByDataEventoDescIdDesc(id, PageRequest.of(pagina, quantidade));
+
+        return ResponseEntity.ok(eventos.map(eventoMapper::toDto));
+
+    }
+
+    @Override
+    public ResponseEntity<SseEmitter> assinarEventos() {
+
+        try {
+            return ResponseEntity.ok()
+                    .header("X-Accel-Buffering", "no")
+                    .body(notificador.assinar());
+        } catch (ServicoSobrecarregadoException e) {
+            // o EventSource so aceita text/event-stream: sem corpo, o navegador reconecta sozinho
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, "5")
+                    .build();
+        }
+
+    }
+
+    /**
+     * Validacoes do lote feitas em memoria contra as consultas ja carregadas; a ordem das
+     * regras segue a do cadastro individual. Retorna a mensagem de erro ou null.
+     */
+    private static String validarItemLote(
+            ServicoDTO dto,
+            Map<UUID, Empresa> empresas,
+            Map<UUID, Usuario> usuarios,
+            Set<String> notasCadastradas,
+            Set<String> notasDoLote
+    ) {
+        if (dto == null) {
+            return "item vazio";
+        }
+        if (dto.data() == null) {
+            return "data obrigatoria";
+        }
+        if (!empresas.containsKey(uuid(dto.idEmpresa()))) {
+            return "empresa nao encontrada: " + dto.idEmpresa();
+        }
+        if (!usuarios.containsKey(uuid(dto.idUsuario()))) {
+            return "usuario nao encontrado: " + dto.idUsuario();
+        }
+        var notaFiscal = dto.notaFiscal();
+        if (notaFiscal != null) {
+            if (notaFiscal.length() > TAMANHO_NOTA_FISCAL) {
+                return "nota fiscal excede " + TAMANHO_NOTA_FISCAL + " caracteres";
+            }
+            if (notasCadastradas.contains(notaFiscal)) {
+                return "Servico ja cadastrado!";
+            }
+            if (!notasDoLote.add(notaFiscal)) {
+                return "nota fiscal repetida no lote";
+            }
+        }
+        return null;
+    }
+
+    private List<String> campos(String fields) {
+        var selecionaveis = repository.servicoRepository.camposSelecionaveis();
+        var campos = Arrays.stream(fields.split(","))
+                .map(String::trim)
+                .filter(campo -> !campo.isEmpty())
+                .toList();
+        campos.stream()
+                .filter(campo -> !selecionaveis.contains(campo))
+                .findFirst()
+                .ifPresent(campo -> {
+                    throw new ParametroInvalidoException("campo invalido: " + campo);
+                });
+        return campos;
+    }
+
+    private static Set<UUID> ids(List<ServicoDTO> lote, Function<ServicoDTO, String> id) {
+        return lote.stream()
+                .filter(Objects::nonNull)
+                .map(id)
+                .map(ServicoServiceImpl::uuid)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+    }
+
+    private static List<String> notasFiscais(List<ServicoDTO> lote) {
+        return lote.stream()
+                .filter(Objects::nonNull)
+                .map(ServicoDTO::notaFiscal)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+    }
+
+    private static UUID uuid(String id) {
+        try {
+            return id == null ? null : UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private long contarServicos() {
+        return repository.servicoRepository.count();
+    }
+
+    /**
+     * As maiores empresas mais um grupo "OUTRAS" com o restante, calculado pela
+     * diferenca para o total de porMes (mesmo filtro), sem outra consulta.
+     */
+    private static List<ServicoAgregadoDTO> porEmpresa(List<ServicoAgregadoDTO> maiores, List<ServicoAgregadoDTO> porMes) {
+        long quantidade = 0;
+        BigDecimal valorTotal = BigDecimal.ZERO;
+        BigDecimal valorImposto = BigDecimal.ZERO;
+        BigDecimal valorLiquido = BigDecimal.ZERO;
+        for (ServicoAgregadoDTO mes : porMes) {
+            quantidade += mes.quantidade();
+            valorTotal = valorTotal.add(mes.valorTotal());
+            valorImposto = valorImposto.add(mes.valorImposto());
+            valorLiquido = valorLiquido.add(mes.valorLiquido());
+        }
+        for (ServicoAgregadoDTO empresa : maiores) {
+            quantidade -= empresa.quantidade();
+            valorTotal = valorTotal.subtract(empresa.valorTotal());
+            valorImposto = valorImposto.subtract(empresa.valorImposto());
+            valorLiquido = valorLiquido.subtract(empresa.valorLiquido());
+        }
+
+        if (quantidade <= 0) {
+            return maiores;
+        }
+        List<ServicoAgregadoDTO> resultado = new ArrayList<>(maiores);
+        resultado.add(new ServicoAgregadoDTO(OUTRAS_EMPRESAS, "Outras empresas", quantidade, valorTotal, valorImposto, valorLiquido));
+        return resultado;
+    }
+
+    private static ServicoAgregadoDTO totaisDoMes(List<ServicoAgregadoDTO> porMes, YearMonth mes) {
+        String chave = mes.toString();
+        return porMes.stream()
+                .filter(m -> m.chave().equals(chave))
+                .findFirst()
+                .orElseGet(() -> ServicoAgregadoDTO.vazio(chave));
+    }
+
+    private static BigDecimal variacaoPct(BigDecimal atual, BigDecimal anterior) {
+        if (anterior.signum() == 0) {
+            return null;
+        }
+        return atual.subtract(anterior)
+                .multiply(BigDecimal.valueOf(100))
+                .divide(anterior, 2, RoundingMode.HALF_UP);
+    }
+
+    private Specification<Servico> montarSpecs(ServicoFiltroDTO filtro) {
+
+        Specification<Servico> specs = Specification.unrestricted();
+
+        if (filtro.notaFiscal() != null && !filtro.notaFiscal().isBlank()) {
+            specs = specs.and(notaFiscalEqual(filtro.notaFiscal()));
+        }
+
+        if (filtro.mesAno() != null && !filtro.mesAno().isBlank()) {
+            specs = specs.and(mesAnoEqual(filtro.mesAno()));
+        }
+
+        if (filtro.ano() != null && !filtro.ano().isBlank()) {
+            specs = specs.and(anoEqual(filtro.ano()));
+        }
+
+        if (filtro.nomeEmpresa() != null && !filtro.nomeEmpresa().isBlank()) {
+            specs = specs.and(nomeEmpresaLike(filtro.nomeEmpresa()));
+        }
+
+        if (filtro.status() != null) {
+            specs = specs.and(statusServicoEqual(filtro.status()));
+        }
+
+        if (filtro.imposto() != null) {
+            specs = specs.and(tipoImpostoEqual(filtro.imposto()));
+        }
+
+        if (filtro.tipoPagamento() != null) {
+            specs = specs.and(tipoPagamentoEqual(filtro.tipoPagamento()));
+        }
+
+        if (filtro.valorTotal() != null) {
+            specs = specs.and(valorTotalEqual(filtro.valorTotal()));
+        }
+
+        if (filtro.dataVencimento() != null) {
+            specs = specs.and(dataVencimentoEqual(filtro.dataVencimento()));
+        }
+
+        if (filtro.data() != null) {
+            specs = specs.and(dataEqual(filtro.data()));
+        }
+
+        if (filtro.dataInicio() != null) {
+            specs = specs.and(dataGreaterThanOrEqual(filtro.dataInicio()));
+        }
+
+        if (filtro.dataFim() != null) {
+            specs = specs.and(dataLessThanOrEqual(filtro.dataFim()));
+        }
+
+        if (filtro.vencimentoInicio() != null) {
+            specs = specs.and(dataVencimentoGreaterThanOrEqual(filtro.vencimentoInicio()));
+        }
+
+        if (filtro.vencimentoFim() != null) {
+            specs = specs.and(dataVencimentoLessThanOrEqual(filtro.vencimentoFim()));
+        }
+
+        if (filtro.valorMin() != null) {
+            specs = specs.and(valorTotalGreaterThanOrEqual(filtro.valorMin()));
+        }
+
+        if (filtro.valorMax() != null) {
+            specs = specs.and(valorTotalLessThanOrEqual(filtro.valorMax()));
+        }
+
+        return specs;
+    }
+
 }
@@ -0,0 +1,144 @@
+package br.com.allservice.service.impl;
+
+import br.com.allservice.controller.dto.AlteracoesDTO;
+import br.com.allservice.domain.RegistroExcluido;
+import br.com.allservice.domain.Sincronizavel;
+import br.com.allservice.enums.TipoEntidade;
+import br.com.allservice.execptions.ParametroInvalidoException;
+import br.com.allservice.repository.RepositoryFacade;
+import br.com.allservice.util.MarcaAlteracao;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Root;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+/**
+ * Monta o delta de /{entidade}/alteracoes juntando as linhas e as lapides de
+ * exclusao na ordem (XID_ALTERACAO, SEQ_ALTERACAO).
+ * <p>
+ * O SEQ e reservado antes do commit, entao uma transacao lenta pode commitar
+ * SEQ menores do que os ja entregues. A ordem e por transacao: so saem linhas
+ * de transacoes com xid abaixo do xmin do snapshot atual, que ja terminaram;
+ * qualquer transacao que ainda vai commitar tem xid maior que a marca do cliente.
+ */
+@Component
+public class SincronizacaoAlteracoes {
+
+    private static final String XID_ALTERACAO = "xidAlteracao";
+    private static final String SEQ_ALTERACAO = "seqAlteracao";
+    private static final String HORIZONTE = "select pg_snapshot_xmin(pg_current_snapshot())::text::bigint";
+
+    private final RepositoryFacade repository;
+    private final boolean postgresql;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * O XID so e gravado pelo trigger do schema-postgresql.sql; nas outras
+     * plataformas (H2 dos testes) ele fica 0 e a ordem e so pelo SEQ.
+     */
+    public SincronizacaoAlteracoes(
+            RepositoryFacade repository,
+            @Value("${spring.sql.init.platform:postgresql}") String plataforma
+    ) {
+        this.repository = repository;
+        this.postgresql = "postgresql".equals(plataforma);
+    }
+
+    public <E extends Sincronizavel, T> AlteracoesDTO<T> alteracoes(
+            TipoEntidade entidade,
+            Class<E> tipo,
+            String desde,
+            int quantidade,
+            Function<E, T> mapper
+    ) {
+        if (quantidade < 1) {
+            throw new ParametroInvalidoException("quantidade deve ser maior que zero");
+        }
+
+        MarcaAlteracao marca = MarcaAlteracao.decodificar(desde);
+        long horizonte = horizonte();
+
+        List<Tuple> alterados = posteriores(tipo, marca, horizonte, quantidade + 1);
+        List<RegistroExcluido> excluidos = repository.registroExcluidoRepository
+                .findPosteriores(entidade, marca.xid(), marca.seq(), horizonte, Limit.of(quantidade + 1));
+
+        List<T> conteudo = new ArrayList<>();
+        List<UUID> ids = new ArrayList<>();
+        MarcaAlteracao ultima = marca;
+        boolean hasNext = false;
+        int a = 0;
+        int e = 0;
+
+        while (a < alterados.size() || e < excluidos.size()) {
+            if (conteudo.size() + ids.size() == quantidade) {
+                hasNext = true;
+                break;
+            }
+
+            MarcaAlteracao alterado = a < alterados.size()
+                    ? new MarcaAlteracao(alterados.get(a).get(1, Long.class), alterados.get(a).get(2, Long.class))
+                    : null;
+            MarcaAlteracao excluido = e < excluidos.size()
+                    ? new MarcaAlteracao(excluidos.get(e).getXidAlteracao(), excluidos.get(e).getSeq())
+                    : null;
+
+            if (excluido == null || (alterado != null && anterior(alterado, excluido))) {
+                conteudo.add(mapper.apply(tipo.cast(alterados.get(a).get(0))));
+                ultima = alterado;
+                a++;
+            } else {
+                ids.add(excluidos.get(e).getIdRegistro());
+                ultima = excluido;
+                e++;
+            }
+        }
+
+        return new AlteracoesDTO<>(conteudo, ids, hasNext, ultima.codificar());
+    }
+
+    /**
+     * XID e SEQ vem como colunas da propria consulta: a entidade pode sair do
+     * cache de segundo nivel, que nao enxerga o que o trigger gravou.
+     */
+    private <E> List<Tuple> posteriores(Class<E> tipo, MarcaAlteracao marca, long horizonte, int limite) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<E> root = query.from(tipo);
+        Path<Long> xid = root.get(XID_ALTERACAO);
+        Path<Long> seq = root.get(SEQ_ALTERACAO);
+
+        query.multiselect(root, xid, seq)
+                .where(
+                        cb.lessThan(xid, horizonte),
+                        cb.or(
+                                cb.greaterThan(xid, marca.xid()),
+                                cb.and(cb.equal(xid, marca.xid()), cb.greaterThan(seq, marca.seq()))))
+                .orderBy(cb.asc(xid), cb.asc(seq));
+
+        return entityManager.createQuery(query).setMaxResults(limite).getResultList();
+    }
+
+    private long horizonte() {
+        if (!postgresql) {
+            return Long.MAX_VALUE;
+        }
+        return ((Number) entityManager.createNativeQuery(HORIZONTE).getSingleResult()).longValue();
+    }
+
+    private static boolean anterior(MarcaAlteracao a, MarcaAlteracao b) {
+        return a.xid() < b.xid() || (a.xid() == b.xid() && a.seq() < b.seq());
+    }
+}
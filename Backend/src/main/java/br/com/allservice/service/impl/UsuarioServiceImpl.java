@@ -1,12 +1,21 @@
 package br.com.allservice.service.impl;
 
+import br.com.allservice.controller.dto.AlteracoesDTO;
 import br.com.allservice.controller.dto.UsuarioDTO;
+import br.com.allservice.controller.dto.PaginaCursorDTO;
+import br.com.allservice.controller.dto.PaginaSliceDTO;
 import br.com.allservice.controller.mappers.UsuarioMapper;
+import br.com.allservice.domain.RegistroExcluido;
 import br.com.allservice.domain.Usuario;
 import br.com.allservice.enums.StatusUsuario;
+import br.com.allservice.enums.TipoEntidade;
 import br.com.allservice.enums.TipoPerfil;
+import br.com.allservice.execptions.ParametroInvalidoException;
 import br.com.allservice.repository.RepositoryFacade;
+import br.com.allservice.repository.specs.CursorSpecs;
+import br.com.allservice.security.PrincipalJwtResolver;
 import br.com.allservice.service.UsuarioService;
+import br.com.allservice.util.Cursor;
 import br.com.allservice.validator.ValidatorFacade;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -16,9 +25,15 @@ import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import static br.com.allservice.repository.specs.UsuarioSpecs.*;
 
@@ -26,10 +41,14 @@ import static br.com.allservice.repository.specs.UsuarioSpecs.*;
 @Service
 public class UsuarioServiceImpl implements UsuarioService {
 
+    private static final int LIMITE_IDS = 1000;
+
     private final RepositoryFacade repository;
     private final ValidatorFacade validator;
     private final UsuarioMapper mapper;
+    private final SincronizacaoAlteracoes sincronizacao;
     private final PasswordEncoder encoder;
+    private final PrincipalJwtResolver principalResolver;
 
     @Override
     public ResponseEntity<Object> save(UsuarioDTO u) {
@@ -50,32 +69,63 @@ public class UsuarioServiceImpl implements UsuarioService {
             Integer quantidade
     ) {
 
-        Specification<Usuario> specs = Specification.unrestricted();
+        Pageable pageableRequest = PageRequest.of(pagina, quantidade, CursorSpecs.ordem("dataCriacao"));
 
-        if (nome != null && !nome.isBlank()) {
-            specs = specs.and(nomeLike(nome));
-        }
+        var usuarios = repository.usuarioRepository.findAll(montarSpecs(nome, funcao, statusUsuario, perfil), pageableRequest);
 
-        if (funcao != null && !funcao.isBlank()) {
-            specs = specs.and(funcaoEquals(funcao));
-        }
+        Page<UsuarioDTO> usuarioResultado = usuarios.map(mapper::toDto);
 
-        if (statusUsuario != null) {
-            specs = specs.and(statusUsuarioEquals(statusUsuario));
-        }
+        return ResponseEntity.ok(usuarioResultado);
 
-        if (perfil != null) {
-            specs = specs.and(perfilEquals(perfil));
+    }
+
+    @Override
+    public ResponseEntity<PaginaCursorDTO<UsuarioDTO>> filterCursor(
+            String nome,
+            String funcao,
+            StatusUsuario statusUsuario,
+            TipoPerfil perfil,
+            String cursor,
+            Integer quantidade
+    ) {
+
+        int limite = PaginaCursorDTO.limitar(quantidade);
+        Specification<Usuario> specs = montarSpecs(nome, funcao, statusUsuario, perfil);
+
+        if (cursor != null && !cursor.isBlank()) {
+            var posicao = Cursor.decodificar(cursor);
+            specs = specs.and(CursorSpecs.apos("dataCriacao", LocalDateTime.parse(posicao.chave()), posicao.id()));
         }
 
+        var usuarios = repository.usuarioRepository.findBy(specs, q -> q
+                .sortBy(CursorSpecs.ordem("dataCriacao"))
+                .limit(limite + 1)
+                .all());
 
-        Pageable pageableRequest = PageRequest.of(pagina, quantidade);
+        return ResponseEntity.ok(PaginaCursorDTO.of(
+                usuarios,
+                limite,
+                usuario -> new Cursor(usuario.getDataCriacao().toString(), usuario.getId()),
+                mapper::toDto
+        ));
 
-        var usuarios = repository.usuarioRepository.findAll(specs,pageableRequest);
+    }
 
-        Page<UsuarioDTO> usuarioResultado = usuarios.map(mapper::toDto);
+    @Override
+    public ResponseEntity<PaginaSliceDTO<UsuarioDTO>> filterSlice(
+            String nome,
+            String funcao,
+            StatusUsuario statusUsuario,
+            TipoPerfil perfil,
+            Integer pagina,
+            Integer quantidade
+    ) {
 
-        return ResponseEntity.ok(usuarioResultado);
+        Pageable pageableRequest = PageRequest.of(pagina, quantidade, CursorSpecs.ordem("dataCriacao"));
+
+        var usuarios = repository.usuarioRepository.findBy(montarSpecs(nome, funcao, statusUsuario, perfil), q -> q.slice(pageableRequest));
+
+        return ResponseEntity.ok(PaginaSliceDTO.of(usuarios, mapper::toDto, null));
 
     }
 
@@ -87,6 +137,20 @@ public class UsuarioServiceImpl implements UsuarioService {
 
     }
 
+    @Override
+    public ResponseEntity<Map<UUID, UsuarioDTO>> findAllById(Collection<UUID> ids) {
+
+        if (ids.size() > LIMITE_IDS) {
+            throw new ParametroInvalidoException("maximo de " + LIMITE_IDS + " ids por consulta");
+        }
+
+        var usuarios = repository.usuarioRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Usuario::getId, mapper::toDto, (a, b) -> a, LinkedHashMap::new));
+
+        return ResponseEntity.ok(usuarios);
+
+    }
+
     @Override
     public Usuario findByLogin(String login) {
         return repository.usuarioRepository.findByLogin(login).orElse(null);
@@ -110,6 +174,7 @@ public class UsuarioServiceImpl implements UsuarioService {
             usuario.setPerfil(TipoPerfil.valueOf(u.perfil()));
 
             repository.usuarioRepository.save(usuario);
+            principalResolver.revogar(usuario.getId());
             return ResponseEntity.noContent().build();
         } else {
             return ResponseEntity.notFound().build();
@@ -118,11 +183,22 @@ public class UsuarioServiceImpl implements UsuarioService {
     }
 
     @Override
+    public ResponseEntity<AlteracoesDTO<UsuarioDTO>> alteracoes(String desde, Integer quantidade) {
+
+        return ResponseEntity.ok(sincronizacao.alteracoes(
+                TipoEntidade.USUARIO, Usuario.class, desde, quantidade, mapper::toDto));
+
+    }
+
+    @Override
+    @Transactional
     public ResponseEntity<Void> delete(UUID id) {
 
         Optional<Usuario> usuario = repository.usuarioRepository.findById(id);
         if (usuario.isPresent()) {
             repository.usuarioRepository.delete(usuario.get());
+            repository.registroExcluidoRepository.save(RegistroExcluido.de(TipoEntidade.USUARIO, id));
+            principalResolver.revogar(id);
             return ResponseEntity.noContent().build();
         } else {
             return ResponseEntity.notFound().build();
@@ -130,4 +206,32 @@ public class UsuarioServiceImpl implements UsuarioService {
 
     }
 
+    private Specification<Usuario> montarSpecs(
+            String nome,
+            String funcao,
+            StatusUsuario statusUsuario,
+            TipoPerfil perfil
+    ) {
+
+        Specification<Usuario> specs = Specification.unrestricted();
+
+        if (nome != null && !nome.isBlank()) {
+            specs = specs.and(nomeLike(nome));
+        }
+
+        if (funcao != null && !funcao.isBlank()) {
+            specs = specs.and(funcaoEquals(funcao));
+        }
+
+        if (statusUsuario != null) {
+            specs = specs.and(statusUsuarioEquals(statusUsuario));
+        }
+
+        if (perfil != null) {
+            specs = specs.and(perfilEquals(perfil));
+        }
+
+        return specs;
+    }
+
 }
@@ -0,0 +1,37 @@
+package br.com.allservice.util;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Total de registros recalculado no maximo uma vez por periodo de validade.
+ * Serve apenas como estimativa para telas que nao precisam do COUNT exato a cada pagina.
+ */
+public class ContagemEmCache {
+
+    private final LongSupplier contagem;
+    private final long validadeNanos;
+
+    private volatile long valor;
+    private volatile long calculadoEm;
+    private volatile boolean calculado;
+
+    public ContagemEmCache(LongSupplier contagem, Duration validade) {
+        this.contagem = contagem;
+        this.validadeNanos = validade.toNanos();
+    }
+
+    public long get() {
+        long agora = System.nanoTime();
+        if (!calculado || agora - calculadoEm > validadeNanos) {
+            synchronized (this) {
+                if (!calculado || agora - calculadoEm > validadeNanos) {
+                    valor = contagem.getAsLong();
+                    calculadoEm = System.nanoTime();
+                    calculado = true;
+                }
+            }
+        }
+        return valor;
+    }
+}
@@ -0,0 +1,30 @@
+package br.com.allservice.util;
+
+import br.com.allservice.execptions.ParametroInvalidoException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Posicao opaca da paginacao por cursor: valor da chave de ordenacao + id do ultimo registro entregue.
+ */
+public record Cursor(String chave, UUID id) {
+
+    private static final String SEPARADOR = "|";
+
+    public String codificar() {
+        String valor = chave + SEPARADOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(valor.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static Cursor decodificar(String token) {
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int separador = valor.lastIndexOf(SEPARADOR);
+            return new Cursor(valor.substring(0, separador), UUID.fromString(valor.substring(separador + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ParametroInvalidoException("cursor invalido");
+        }
+    }
+}
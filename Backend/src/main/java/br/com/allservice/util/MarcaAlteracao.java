@@ -0,0 +1,40 @@
+package br.com.allservice.util;
+
+import br.com.allservice.execptions.ParametroInvalidoException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * Token opaco de /{entidade}/alteracoes: transacao (XID_ALTERACAO) e
+ * SEQ_ALTERACAO da ultima alteracao entregue ao cliente.
+ */
+public record MarcaAlteracao(long xid, long seq) {
+
+    public static final MarcaAlteracao INICIO = new MarcaAlteracao(0, 0);
+
+    public String codificar() {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString((xid + "." + seq).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Tokens do formato antigo, so com o SEQ, recomecam do inicio: reenviar
+     * tudo e seguro, pular alteracoes nao.
+     */
+    public static MarcaAlteracao decodificar(String token) {
+        if (token == null || token.isBlank()) {
+            return INICIO;
+        }
+        try {
+            String valor = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            int ponto = valor.indexOf('.');
+            if (ponto < 0) {
+                Long.parseLong(valor);
+                return INICIO;
+            }
+            return new MarcaAlteracao(Long.parseLong(valor.substring(0, ponto)), Long.parseLong(valor.substring(ponto + 1)));
+        } catch (IllegalArgumentException e) {
+            throw new ParametroInvalidoException("token de alteracoes invalido");
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package br.com.allservice.util;
+
+import br.com.allservice.execptions.ParametroInvalidoException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Iterator;
+import java.util.Set;
+
+/**
+ * JSON Merge Patch (RFC 7396): campos presentes substituem, null remove e
+ * campos ausentes ficam como estao.
+ */
+public final class MergePatch {
+
+    private MergePatch() {
+    }
+
+    public static JsonNode aplicar(JsonNode alvo, JsonNode patch) {
+        if (patch == null || !patch.isObject()) {
+            return patch;
+        }
+
+        ObjectNode resultado = alvo != null && alvo.isObject()
+                ? ((ObjectNode) alvo).deepCopy()
+                : JsonNodeFactory.instance.objectNode();
+
+        patch.properties().forEach(campo -> {
+            if (campo.getValue().isNull()) {
+                resultado.remove(campo.getKey());
+            } else {
+                resultado.set(campo.getKey(), aplicar(resultado.get(campo.getKey()), campo.getValue()));
+            }
+        });
+        return resultado;
+    }
+
+    /**
+     * Recusa o patch que nao for um objeto, que tocar em campos fora de
+     * {@code permitidos} ou que remover (null) um dos {@code obrigatorios}.
+     */
+    public static void validar(JsonNode patch, Set<String> permitidos, Set<String> obrigatorios) {
+        if (patch == null || !patch.isObject()) {
+            throw new ParametroInvalidoException("o patch deve ser um objeto JSON");
+        }
+        for (Iterator<String> campos = patch.fieldNames(); campos.hasNext(); ) {
+            String campo = campos.next();
+            if (!permitidos.contains(campo)) {
+                throw new ParametroInvalidoException("campo nao pode ser alterado: " + campo);
+            }
+            if (obrigatorios.contains(campo) && patch.get(campo).isNull()) {
+                throw new ParametroInvalidoException("campo obrigatorio nao pode ser removido: " + campo);
+            }
+        }
+    }
+}
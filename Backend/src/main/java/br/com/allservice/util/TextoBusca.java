@@ -0,0 +1,38 @@
+package br.com.allservice.util;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Normalizacao usada nas colunas de busca (*_BUSCA): sem acentos e em maiusculas,
+ * para que "Construção" e "CONSTRUCAO" encontrem o mesmo registro.
+ */
+public final class TextoBusca {
+
+    public static final char ESCAPE = '\\';
+
+    private static final Pattern ACENTOS = Pattern.compile("\\p{M}+");
+
+    private TextoBusca() {
+    }
+
+    public static String normalizar(String texto) {
+        if (texto == null) {
+            return null;
+        }
+        String semAcentos = ACENTOS.matcher(Normalizer.normalize(texto, Normalizer.Form.NFD)).replaceAll("");
+        return semAcentos.trim().toUpperCase(Locale.ROOT);
+    }
+
+    /**
+     * Padrao LIKE "%texto%" sobre o texto normalizado, escapando os curingas digitados pelo usuario.
+     */
+    public static String contem(String texto) {
+        String escapado = normalizar(texto)
+                .replace(String.valueOf(ESCAPE), "" + ESCAPE + ESCAPE)
+                .replace("%", ESCAPE + "%")
+                .replace("_", ESCAPE + "_");
+        return "%" + escapado + "%";
+    }
+}
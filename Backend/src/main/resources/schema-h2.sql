@@ -0,0 +1,67 @@
+-- Variante H2 (profile test) das tabelas do Spring Authorization Server.
+-- Mesmo esquema do schema-postgresql.sql, com varchar no lugar de text.
+CREATE TABLE IF NOT EXISTS oauth2_authorization (
+    id varchar(100) NOT NULL,
+    registered_client_id varchar(100) NOT NULL,
+    principal_name varchar(200) NOT NULL,
+    authorization_grant_type varchar(100) NOT NULL,
+    authorized_scopes varchar(1000) DEFAULT NULL,
+    attributes varchar DEFAULT NULL,
+    state varchar(500) DEFAULT NULL,
+    authorization_code_value varchar(4000) DEFAULT NULL,
+    authorization_code_issued_at timestamp DEFAULT NULL,
+    authorization_code_expires_at timestamp DEFAULT NULL,
+    authorization_code_metadata varchar DEFAULT NULL,
+    access_token_value varchar(4000) DEFAULT NULL,
+    access_token_issued_at timestamp DEFAULT NULL,
+    access_token_expires_at timestamp DEFAULT NULL,
+    access_token_metadata varchar DEFAULT NULL,
+    access_token_type varchar(100) DEFAULT NULL,
+    access_token_scopes varchar(1000) DEFAULT NULL,
+    oidc_id_token_value varchar(4000) DEFAULT NULL,
+    oidc_id_token_issued_at timestamp DEFAULT NULL,
+    oidc_id_token_expires_at timestamp DEFAULT NULL,
+    oidc_id_token_metadata varchar DEFAULT NULL,
+    refresh_token_value varchar(4000) DEFAULT NULL,
+    refresh_token_issued_at timestamp DEFAULT NULL,
+    refresh_token_expires_at timestamp DEFAULT NULL,
+    refresh_token_metadata varchar DEFAULT NULL,
+    user_code_value varchar(4000) DEFAULT NULL,
+    user_code_issued_at timestamp DEFAULT NULL,
+    user_code_expires_at timestamp DEFAULT NULL,
+    user_code_metadata varchar DEFAULT NULL,
+    device_code_value varchar(4000) DEFAULT NULL,
+    device_code_issued_at timestamp DEFAULT NULL,
+    device_code_expires_at timestamp DEFAULT NULL,
+    device_code_metadata varchar DEFAULT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_oauth2_authorization_state ON oauth2_authorization (state);
+CREATE INDEX IF NOT EXISTS idx_oauth2_authorization_code ON oauth2_authorization (authorization_code_value);
+CREATE INDEX IF NOT EXISTS idx_oauth2_authorization_access_token ON oauth2_authorization (access_token_value);
+CREATE INDEX IF NOT EXISTS idx_oauth2_authorization_refresh_token ON oauth2_authorization (refresh_token_value);
+CREATE INDEX IF NOT EXISTS idx_oauth2_authorization_id_token ON oauth2_authorization (oidc_id_token_value);
+
+CREATE TABLE IF NOT EXISTS oauth2_authorization_consent (
+    registered_client_id varchar(100) NOT NULL,
+    principal_name varchar(200) NOT NULL,
+    authorities varchar(1000) NOT NULL,
+    PRIMARY KEY (registered_client_id, principal_name)
+);
+
+-- Colunas de /{entidade}/alteracoes: no PostgreSQL vem de trigger; aqui o H2 preenche
+-- o SEQ pela sequence e deixa o XID em 0 (uma unica ordem, pelo SEQ).
+ALTER TABLE servico ALTER COLUMN seq_alteracao SET DEFAULT NEXT VALUE FOR alteracao_seq;
+ALTER TABLE servico ALTER COLUMN seq_alteracao SET ON UPDATE NEXT VALUE FOR alteracao_seq;
+ALTER TABLE servico ALTER COLUMN xid_alteracao SET DEFAULT 0;
+ALTER TABLE empresa ALTER COLUMN seq_alteracao SET DEFAULT NEXT VALUE FOR alteracao_seq;
+ALTER TABLE empresa ALTER COLUMN seq_alteracao SET ON UPDATE NEXT VALUE FOR alteracao_seq;
+ALTER TABLE empresa ALTER COLUMN xid_alteracao SET DEFAULT 0;
+ALTER TABLE contato ALTER COLUMN seq_alteracao SET DEFAULT NEXT VALUE FOR alteracao_seq;
+ALTER TABLE contato ALTER COLUMN seq_alteracao SET ON UPDATE NEXT VALUE FOR alteracao_seq;
+ALTER TABLE contato ALTER COLUMN xid_alteracao SET DEFAULT 0;
+ALTER TABLE usuario ALTER COLUMN seq_alteracao SET DEFAULT NEXT VALUE FOR alteracao_seq;
+ALTER TABLE usuario ALTER COLUMN seq_alteracao SET ON UPDATE NEXT VALUE FOR alteracao_seq;
+ALTER TABLE usuario ALTER COLUMN xid_alteracao SET DEFAULT 0;
+ALTER TABLE registro_excluido ALTER COLUMN xid_alteracao SET DEFAULT 0;
@@ -0,0 +1,119 @@
+-- Executado apos o ddl-auto do Hibernate (spring.jpa.defer-datasource-initialization).
+-- Indices que o Hibernate nao sabe declarar via @Index.
+
+-- Busca por substring (LIKE '%texto%') nas colunas normalizadas *_busca.
+-- No Azure Database for PostgreSQL a extensao precisa estar liberada em azure.extensions.
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE INDEX IF NOT EXISTS idx_empresa_razao_social_busca_trgm
+    ON empresa USING gin (razao_social_busca gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_contato_responsavel_busca_trgm
+    ON contato USING gin (responsavel_busca gin_trgm_ops);
+
+CREATE INDEX IF NOT EXISTS idx_usuario_nome_busca_trgm
+    ON usuario USING gin (nome_busca gin_trgm_ops);
+
+-- Autorizacoes e consentimentos do Spring Authorization Server (JdbcOAuth2AuthorizationService).
+-- Esquema oficial com 'blob' trocado por 'text'; os tokens sao buscados por igualdade,
+-- entao indices hash servem e nao sofrem com o tamanho dos JWT.
+CREATE TABLE IF NOT EXISTS oauth2_authorization (
+    id varchar(100) NOT NULL,
+    registered_client_id varchar(100) NOT NULL,
+    principal_name varchar(200) NOT NULL,
+    authorization_grant_type varchar(100) NOT NULL,
+    authorized_scopes varchar(1000) DEFAULT NULL,
+    attributes text DEFAULT NULL,
+    state varchar(500) DEFAULT NULL,
+    authorization_code_value text DEFAULT NULL,
+    authorization_code_issued_at timestamp DEFAULT NULL,
+    authorization_code_expires_at timestamp DEFAULT NULL,
+    authorization_code_metadata text DEFAULT NULL,
+    access_token_value text DEFAULT NULL,
+    access_token_issued_at timestamp DEFAULT NULL,
+    access_token_expires_at timestamp DEFAULT NULL,
+    access_token_metadata text DEFAULT NULL,
+    access_token_type varchar(100) DEFAULT NULL,
+    access_token_scopes varchar(1000) DEFAULT NULL,
+    oidc_id_token_value text DEFAULT NULL,
+    oidc_id_token_issued_at timestamp DEFAULT NULL,
+    oidc_id_token_expires_at timestamp DEFAULT NULL,
+    oidc_id_token_metadata text DEFAULT NULL,
+    refresh_token_value text DEFAULT NULL,
+    refresh_token_issued_at timestamp DEFAULT NULL,
+    refresh_token_expires_at timestamp DEFAULT NULL,
+    refresh_token_metadata text DEFAULT NULL,
+    user_code_value text DEFAULT NULL,
+    user_code_issued_at timestamp DEFAULT NULL,
+    user_code_expires_at timestamp DEFAULT NULL,
+    user_code_metadata text DEFAULT NULL,
+    device_code_value text DEFAULT NULL,
+    device_code_issued_at timestamp DEFAULT NULL,
+    device_code_expires_at timestamp DEFAULT NULL,
+    device_code_metadata text DEFAULT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_oauth2_authorization_state
+    ON oauth2_authorization USING hash (state);
+
+CREATE INDEX IF NOT EXISTS idx_oauth2_authorization_code
+    ON oauth2_authorization USING hash (authorization_code_value);
+
+CREATE INDEX IF NOT EXISTS idx_oauth2_authorization_access_token
+    ON oauth2_authorization USING hash (access_token_value);
+
+CREATE INDEX IF NOT EXISTS idx_oauth2_authorization_refresh_token
+    ON oauth2_authorization USING hash (refresh_token_value);
+
+CREATE INDEX IF NOT EXISTS idx_oauth2_authorization_id_token
+    ON oauth2_authorization USING hash (oidc_id_token_value);
+
+CREATE TABLE IF NOT EXISTS oauth2_authorization_consent (
+    registered_client_id varchar(100) NOT NULL,
+    principal_name varchar(200) NOT NULL,
+    authorities varchar(1000) NOT NULL,
+    PRIMARY KEY (registered_client_id, principal_name)
+);
+
+-- Carimbo de /{entidade}/alteracoes: SEQ_ALTERACAO da sequence e XID_ALTERACAO da
+-- transacao, gravados pelo banco em todo insert ou update (a aplicacao nao envia essas
+-- colunas, entao o batch do JDBC continua sem round trip extra). O corpo da funcao vai
+-- entre aspas simples porque o separador de scripts do Spring nao entende $$.
+CREATE OR REPLACE FUNCTION carimbar_alteracao() RETURNS trigger LANGUAGE plpgsql AS '
+BEGIN
+    NEW.seq_alteracao := nextval(''alteracao_seq'');
+    NEW.xid_alteracao := pg_current_xact_id()::text::bigint;
+    RETURN NEW;
+END';
+
+CREATE OR REPLACE FUNCTION carimbar_exclusao() RETURNS trigger LANGUAGE plpgsql AS '
+BEGIN
+    NEW.xid_alteracao := pg_current_xact_id()::text::bigint;
+    RETURN NEW;
+END';
+
+CREATE OR REPLACE TRIGGER trg_servico_alteracao BEFORE INSERT OR UPDATE ON servico
+    FOR EACH ROW EXECUTE FUNCTION carimbar_alteracao();
+CREATE OR REPLACE TRIGGER trg_empresa_alteracao BEFORE INSERT OR UPDATE ON empresa
+    FOR EACH ROW EXECUTE FUNCTION carimbar_alteracao();
+CREATE OR REPLACE TRIGGER trg_contato_alteracao BEFORE INSERT OR UPDATE ON contato
+    FOR EACH ROW EXECUTE FUNCTION carimbar_alteracao();
+CREATE OR REPLACE TRIGGER trg_usuario_alteracao BEFORE INSERT OR UPDATE ON usuario
+    FOR EACH ROW EXECUTE FUNCTION carimbar_alteracao();
+CREATE OR REPLACE TRIGGER trg_registro_excluido_alteracao BEFORE INSERT ON registro_excluido
+    FOR EACH ROW EXECUTE FUNCTION carimbar_exclusao();
+
+-- Linhas gravadas antes do trigger entram no delta na primeira sincronizacao;
+-- o proprio UPDATE dispara o trigger. Lapides antigas ficam com xid 0.
+UPDATE servico SET seq_alteracao = NULL WHERE xid_alteracao IS NULL;
+UPDATE empresa SET seq_alteracao = NULL WHERE xid_alteracao IS NULL;
+UPDATE contato SET seq_alteracao = NULL WHERE xid_alteracao IS NULL;
+UPDATE usuario SET seq_alteracao = NULL WHERE xid_alteracao IS NULL;
+UPDATE registro_excluido SET xid_alteracao = 0 WHERE xid_alteracao IS NULL;
+
+DROP INDEX IF EXISTS idx_servico_seq_alteracao;
+DROP INDEX IF EXISTS idx_empresa_seq_alteracao;
+DROP INDEX IF EXISTS idx_contato_seq_alteracao;
+DROP INDEX IF EXISTS idx_usuario_seq_alteracao;
+DROP INDEX IF EXISTS idx_registro_excluido_entidade_seq;
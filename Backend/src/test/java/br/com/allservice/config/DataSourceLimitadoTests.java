@@ -0,0 +1,25 @@
+package br.com.allservice.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.beans.factory.support.RootBeanDefinition;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataSourceLimitadoTests {
+
+    @Test
+    void desligamentoFechaOPoolEnvolvido() {
+        var pool = new HikariDataSource();
+        var beanFactory = new DefaultListableBeanFactory();
+        var definicao = new RootBeanDefinition(DataSourceLimitado.class, () -> new DataSourceLimitado(pool, 1, 1000));
+        definicao.setDestroyMethodName("(inferred)");
+        beanFactory.registerBeanDefinition("dataSource", definicao);
+        beanFactory.getBean("dataSource");
+
+        beanFactory.destroySingletons();
+
+        assertThat(pool.isClosed()).isTrue();
+    }
+}
@@ -0,0 +1,107 @@
+package br.com.allservice.config;
+
+import br.com.allservice.domain.Usuario;
+import br.com.allservice.enums.StatusUsuario;
+import br.com.allservice.enums.TipoPerfil;
+import br.com.allservice.repository.RepositoryFacade;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class SecurityConfigTests {
+
+    private static final String LOGIN = "api.sem.sessao";
+    private static final String SENHA = "12345678";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RepositoryFacade repository;
+
+    @Autowired
+    private PasswordEncoder encoder;
+
+    @BeforeEach
+    void criarUsuario() {
+        if (repository.usuarioRepository.findByLogin(LOGIN).isEmpty()) {
+            repository.usuarioRepository.save(Usuario.builder()
+                    .nome("Api Sem Sessao")
+                    .funcao("Teste")
+                    .statusUsuario(StatusUsuario.ATIVO)
+                    .perfil(TipoPerfil.MASTER)
+                    .login(LOGIN)
+                    .senha(encoder.encode(SENHA))
+                    .email("api.sem.sessao@teste.com")
+                    .build());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"/servico", "/empresa", "/contato", "/usuario"})
+    void chamadasDeApiNaoCriamSessao(String caminho) throws Exception {
+        for (int i = 0; i < 20; i++) {
+            assertSemSessao(mockMvc.perform(get(caminho)).andReturn());
+            assertSemSessao(mockMvc.perform(get(caminho).with(jwt())).andReturn());
+        }
+    }
+
+    @Test
+    void basicNaoAutenticaNaApi() throws Exception {
+        // credenciais validas de um MASTER: com Basic ativo a chamada passaria
+        MvcResult resultado = mockMvc.perform(post("/servico/resumo-mensal/reconstruir")
+                        .with(httpBasic(LOGIN, SENHA)))
+                .andExpect(status().isForbidden())
+                .andReturn();
+        assertSemSessao(resultado);
+
+        mockMvc.perform(post("/servico/resumo-mensal/reconstruir")
+                        .with(jwt().authorities(new SimpleGrantedAuthority("MASTER"))))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void loginContinuaComSessao() throws Exception {
+        MvcResult resultado = mockMvc.perform(post("/login")
+                        .param("username", "ninguem")
+                        .param("password", "errada"))
+                .andReturn();
+
+        assertThat(resultado.getRequest().getSession(false)).isNotNull();
+    }
+
+    @Test
+    void metricasExigemPerfilAdministrativo() throws Exception {
+        mockMvc.perform(get("/actuator/health")).andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/metrics")).andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics").with(jwt().authorities(new SimpleGrantedAuthority("OPERADOR"))))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics").with(jwt().authorities(new SimpleGrantedAuthority("MASTER"))))
+                .andExpect(status().isOk());
+    }
+
+    private static void assertSemSessao(MvcResult resultado) {
+        assertThat(resultado.getRequest().getSession(false))
+                .as("sessao criada em %s", resultado.getRequest().getRequestURI())
+                .isNull();
+    }
+}
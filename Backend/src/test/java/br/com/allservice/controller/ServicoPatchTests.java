@@ -0,0 +1,112 @@
+package br.com.allservice.controller;
+
+import br.com.allservice.domain.Empresa;
+import br.com.allservice.domain.Servico;
+import br.com.allservice.domain.Usuario;
+import br.com.allservice.enums.StatusServico;
+import br.com.allservice.enums.StatusUsuario;
+import br.com.allservice.enums.TipoImposto;
+import br.com.allservice.enums.TipoPagamento;
+import br.com.allservice.enums.TipoPerfil;
+import br.com.allservice.repository.RepositoryFacade;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ServicoPatchTests {
+
+    private static final String MERGE_PATCH = "application/merge-patch+json";
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RepositoryFacade repository;
+
+    private Servico servico;
+
+    @BeforeEach
+    void criarServico() {
+        var sufixo = UUID.randomUUID().toString().substring(0, 8);
+        var usuario = repository.usuarioRepository.save(Usuario.builder()
+                .nome("Patch")
+                .funcao("Teste")
+                .statusUsuario(StatusUsuario.ATIVO)
+                .perfil(TipoPerfil.MASTER)
+                .login("patch." + sufixo)
+                .senha("x")
+                .email("patch." + sufixo + "@teste.com")
+                .build());
+        var empresa = repository.empresaRepository.save(Empresa.builder()
+                .razaoSocial("Empresa Patch " + sufixo)
+                .cnpj(sufixo)
+                .endereco("Rua Teste")
+                .usuario(usuario)
+                .build());
+        servico = repository.servicoRepository.save(Servico.builder()
+                .data(LocalDate.of(1998, 6, 10))
+                .notaFiscal(sufixo)
+                .status(StatusServico.ORCAMENTO)
+                .imposto(TipoImposto.ISSQN)
+                .tipoPagamento(TipoPagamento.PIX)
+                .valorTotal(new BigDecimal("100.00"))
+                .valorImposto(new BigDecimal("5.00"))
+                .valorLiquido(new BigDecimal("95.00"))
+                .descricaoPeca("eixo")
+                .observacao("antes")
+                .empresa(empresa)
+                .usuario(usuario)
+                .build());
+    }
+
+    @Test
+    void patchAlteraSoOsCamposEnviados() throws Exception {
+        mockMvc.perform(patch("/servico/{id}", servico.getId())
+                        .with(jwt())
+                        .contentType(MERGE_PATCH)
+                        .content("{\"observacao\":\"depois\",\"descricaoPeca\":null}"))
+                .andExpect(status().isNoContent());
+
+        var alterado = repository.servicoRepository.findById(servico.getId()).orElseThrow();
+        assertThat(alterado.getObservacao()).isEqualTo("depois");
+        assertThat(alterado.getDescricaoPeca()).isNull();
+        assertThat(alterado.getNotaFiscal()).isEqualTo(servico.getNotaFiscal());
+        assertThat(alterado.getValorTotal()).isEqualByComparingTo("100.00");
+    }
+
+    @Test
+    void patchQueRemoveCampoObrigatorioERecusado() throws Exception {
+        for (String campo : new String[]{"idEmpresa", "idUsuario", "data"}) {
+            mockMvc.perform(patch("/servico/{id}", servico.getId())
+                            .with(jwt())
+                            .contentType(MERGE_PATCH)
+                            .content("{\"" + campo + "\":null}"))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    void patchComValorDeTipoErradoERecusado() throws Exception {
+        mockMvc.perform(patch("/servico/{id}", servico.getId())
+                        .with(jwt())
+                        .contentType(MERGE_PATCH)
+                        .content("{\"valorTotal\":\"abc\"}"))
+                .andExpect(status().isBadRequest());
+    }
+}
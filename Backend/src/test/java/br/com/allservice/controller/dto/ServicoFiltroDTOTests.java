@@ -0,0 +1,36 @@
+package br.com.allservice.controller.dto;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ServicoFiltroDTOTests {
+
+    @Test
+    void fimNoUltimoDiaDoMesRecuaParaOUltimoDiaDoMesAnterior() {
+        var anterior = intervalo(LocalDate.of(2025, 7, 1), LocalDate.of(2025, 7, 31)).recuadoUmMes();
+        assertThat(anterior.dataInicio()).isEqualTo(LocalDate.of(2025, 6, 1));
+        assertThat(anterior.dataFim()).isEqualTo(LocalDate.of(2025, 6, 30));
+
+        anterior = intervalo(LocalDate.of(2025, 6, 1), LocalDate.of(2025, 6, 30)).recuadoUmMes();
+        assertThat(anterior.dataFim()).isEqualTo(LocalDate.of(2025, 5, 31));
+
+        anterior = intervalo(LocalDate.of(2024, 3, 1), LocalDate.of(2024, 3, 31)).recuadoUmMes();
+        assertThat(anterior.dataFim()).isEqualTo(LocalDate.of(2024, 2, 29));
+    }
+
+    @Test
+    void fimNoMeioDoMesRecuaOMesmoDia() {
+        var anterior = intervalo(LocalDate.of(2025, 6, 10), LocalDate.of(2025, 6, 20)).recuadoUmMes();
+
+        assertThat(anterior.dataInicio()).isEqualTo(LocalDate.of(2025, 5, 10));
+        assertThat(anterior.dataFim()).isEqualTo(LocalDate.of(2025, 5, 20));
+    }
+
+    private static ServicoFiltroDTO intervalo(LocalDate inicio, LocalDate fim) {
+        return new ServicoFiltroDTO(null, "2025-06", null, null, null, null, null, null, null,
+                null, inicio, fim, null, null, null, null);
+    }
+}
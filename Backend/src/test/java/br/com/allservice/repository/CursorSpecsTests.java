@@ -0,0 +1,92 @@
+package br.com.allservice.repository;
+
+import br.com.allservice.controller.dto.PaginaCursorDTO;
+import br.com.allservice.domain.Servico;
+import br.com.allservice.domain.Usuario;
+import br.com.allservice.enums.StatusServico;
+import br.com.allservice.enums.StatusUsuario;
+import br.com.allservice.enums.TipoPerfil;
+import br.com.allservice.repository.specs.CursorSpecs;
+import br.com.allservice.util.Cursor;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class CursorSpecsTests {
+
+    private static final LocalDate DATA = LocalDate.of(1997, 3, 3);
+
+    @Autowired
+    private RepositoryFacade repository;
+
+    @Test
+    void percorreRegistrosComAMesmaDataSemRepetirNemPular() {
+        var usuario = repository.usuarioRepository.save(Usuario.builder()
+                .nome("Cursor")
+                .funcao("Teste")
+                .statusUsuario(StatusUsuario.ATIVO)
+                .perfil(TipoPerfil.MASTER)
+                .login("cursor.specs")
+                .senha("x")
+                .email("cursor.specs@teste.com")
+                .build());
+        var esperados = IntStream.range(0, 7)
+                .mapToObj(i -> repository.servicoRepository.save(Servico.builder()
+                        .data(DATA)
+                        .notaFiscal("CUR" + i)
+                        .status(StatusServico.ORCAMENTO)
+                        .usuario(usuario)
+                        .build()).getId())
+                // o banco ordena UUID sem sinal, como o texto; UUID.compareTo compara com sinal
+                .sorted(Comparator.comparing(UUID::toString).reversed())
+                .toList();
+
+        List<UUID> lidos = new ArrayList<>();
+        String cursor = null;
+        do {
+            var pagina = pagina(cursor, 3);
+            pagina.conteudo().forEach(servico -> lidos.add(servico.getId()));
+            cursor = pagina.next();
+        } while (cursor != null);
+
+        assertThat(lidos).containsExactlyElementsOf(esperados);
+    }
+
+    @Test
+    void quantidadeELimitada() {
+        assertThat(PaginaCursorDTO.limitar(Integer.MAX_VALUE)).isEqualTo(PaginaCursorDTO.QUANTIDADE_MAXIMA);
+        assertThat(PaginaCursorDTO.limitar(10)).isEqualTo(10);
+    }
+
+    private PaginaCursorDTO<Servico> pagina(String cursor, int quantidade) {
+        Specification<Servico> specs = (root, query, cb) -> cb.equal(root.get("data"), DATA);
+        if (cursor != null) {
+            var posicao = Cursor.decodificar(cursor);
+            specs = specs.and(CursorSpecs.apos("data", LocalDate.parse(posicao.chave()), posicao.id()));
+        }
+
+        var servicos = repository.servicoRepository.findBy(specs, q -> q
+                .sortBy(CursorSpecs.ordem("data"))
+                .limit(quantidade + 1)
+                .all());
+
+        return PaginaCursorDTO.of(servicos, quantidade,
+                servico -> new Cursor(servico.getData().toString(), servico.getId()),
+                servico -> servico);
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.allservice.security;
+
+import br.com.allservice.execptions.LoginBloqueadoException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LimitadorLoginTests {
+
+    private static final String IP = "10.0.0.1";
+
+    private final LimitadorLogin limitador = new LimitadorLogin(new SimpleMeterRegistry(), 3, 5, Duration.ofMinutes(1));
+
+    @Test
+    void loginsBemSucedidosNaoContamParaOIp() {
+        for (int i = 0; i < 100; i++) {
+            String login = "usuario" + i;
+            limitador.verificar(login, IP);
+            limitador.limpar(login);
+        }
+
+        assertThatCode(() -> limitador.verificar("outro", IP)).doesNotThrowAnyException();
+    }
+
+    @Test
+    void sucessoNoMesmoIpNaoZeraAsFalhasDoIp() {
+        for (int i = 0; i < 4; i++) {
+            limitador.falha("usuario" + i, IP);
+        }
+
+        limitador.verificar("atacante", IP);
+        limitador.limpar("atacante");
+        limitador.falha("usuario4", IP);
+
+        assertThatThrownBy(() -> limitador.verificar("novo", IP)).isInstanceOf(LoginBloqueadoException.class);
+    }
+
+    @Test
+    void sucessoZeraAsFalhasDoLogin() {
+        for (int i = 0; i < 2; i++) {
+            limitador.falha("alvo", "10.0.0." + (i + 10));
+        }
+
+        limitador.limpar("alvo");
+        limitador.falha("alvo", "10.0.0.20");
+
+        assertThatCode(() -> limitador.verificar("alvo", "10.0.0.99")).doesNotThrowAnyException();
+    }
+
+    @Test
+    void falhasBloqueiamOLoginEmQualquerIp() {
+        for (int i = 0; i < 3; i++) {
+            limitador.falha("alvo", "10.0.0." + (i + 10));
+        }
+
+        assertThatThrownBy(() -> limitador.verificar("alvo", "10.0.0.99")).isInstanceOf(LoginBloqueadoException.class);
+    }
+}
@@ -0,0 +1,121 @@
+package br.com.allservice.service;
+
+import br.com.allservice.controller.dto.ItemLoteDTO;
+import br.com.allservice.controller.dto.ResultadoLoteDTO;
+import br.com.allservice.domain.Empresa;
+import br.com.allservice.domain.ServicoEvento;
+import br.com.allservice.domain.Usuario;
+import br.com.allservice.enums.StatusUsuario;
+import br.com.allservice.enums.TipoEventoServico;
+import br.com.allservice.enums.TipoPerfil;
+import br.com.allservice.repository.RepositoryFacade;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Fila de um evento so: um lote estoura a fila e os excedentes sao gravados
+ * direto no AFTER_COMMIT da requisicao.
+ */
+@SpringBootTest(properties = "allservice.auditoria.fila=1")
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ServicoAuditoriaTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private RepositoryFacade repository;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Test
+    void eventosGravadosComAFilaCheiaNaoSePerdem() throws Exception {
+        var sufixo = UUID.randomUUID().toString().substring(0, 8);
+        var usuario = repository.usuarioRepository.save(Usuario.builder()
+                .nome("Auditoria")
+                .funcao("Teste")
+                .statusUsuario(StatusUsuario.ATIVO)
+                .perfil(TipoPerfil.MASTER)
+                .login("auditoria." + sufixo)
+                .senha("x")
+                .email("auditoria." + sufixo + "@teste.com")
+                .build());
+        var empresa = repository.empresaRepository.save(Empresa.builder()
+                .razaoSocial("Empresa Auditoria " + sufixo)
+                .cnpj("A" + sufixo)
+                .endereco("Rua Teste")
+                .usuario(usuario)
+                .build());
+        String lote = IntStream.range(0, 20)
+                .mapToObj(i -> """
+                        {"data":"1996-02-10","notaFiscal":"%s","status":"ORCAMENTO","idEmpresa":"%s","idUsuario":"%s"}
+                        """.formatted(sufixo.substring(0, 6) + i, empresa.getId(), usuario.getId()))
+                .collect(Collectors.joining(",", "[", "]"));
+
+        String resposta = mockMvc.perform(post("/servico/lote")
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(lote))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        List<UUID> ids = objectMapper.readValue(resposta, ResultadoLoteDTO.class).itens().stream()
+                .map(ItemLoteDTO::id)
+                .toList();
+        assertThat(ids).hasSize(20).doesNotContainNull();
+
+        UUID alterado = ids.get(0);
+        mockMvc.perform(put("/servico/{id}", alterado)
+                        .with(jwt())
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                                {"data":"1996-02-11","notaFiscal":"%s","status":"ORCAMENTO","idEmpresa":"%s","idUsuario":"%s"}
+                                """.formatted(sufixo.substring(0, 6) + 0, empresa.getId(), usuario.getId())))
+                .andExpect(status().isNoContent());
+
+        for (UUID id : ids) {
+            var esperados = id.equals(alterado)
+                    ? new TipoEventoServico[]{TipoEventoServico.ALTERACAO, TipoEventoServico.CRIACAO}
+                    : new TipoEventoServico[]{TipoEventoServico.CRIACAO};
+            assertThat(aguardarEventos(id, esperados.length))
+                    .as("eventos do servico %s", id)
+                    .extracting(ServicoEvento::getTipo)
+                    .containsExactly(esperados);
+        }
+    }
+
+    /**
+     * O evento que coube na fila e gravado pela thread de auditoria, fora da requisicao.
+     */
+    private List<ServicoEvento> aguardarEventos(UUID idServico, int quantidade) throws InterruptedException {
+        List<ServicoEvento> eventos = List.of();
+        for (int i = 0; i < 50 && eventos.size() < quantidade; i++) {
+            eventos = repository.servicoEventoRepository
+                    .findByIdServicoOrderByDataEventoDescIdDesc(idServico, Pageable.unpaged())
+                    .getContent();
+            if (eventos.size() < quantidade) {
+                Thread.sleep(100);
+            }
+        }
+        return eventos;
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.allservice.service;
+
+import br.com.allservice.domain.Servico;
+import br.com.allservice.domain.ServicoResumoMensal;
+import br.com.allservice.enums.StatusServico;
+import br.com.allservice.enums.TipoImposto;
+import br.com.allservice.enums.TipoPagamento;
+import br.com.allservice.repository.RepositoryFacade;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class ServicoResumoMensalServiceTests {
+
+    private static final YearMonth MES = YearMonth.of(1999, 1);
+    private static final String CHAVE = ServicoResumoMensal.chave(MES, StatusServico.FATURAMENTO, TipoImposto.ISSQN, TipoPagamento.PIX);
+
+    @Autowired
+    private ServicoResumoMensalService service;
+
+    @Autowired
+    private RepositoryFacade repository;
+
+    @Test
+    void lancarCriaOGrupoESomaNasGravacoesSeguintes() {
+        service.lancar(servico("100.00", "5.00"));
+        service.lancar(List.of(servico("50.00", "2.50"), servico("25.00", "1.25")));
+
+        var resumo = resumo();
+        assertThat(resumo.getQuantidade()).isEqualTo(3);
+        assertThat(resumo.getMes()).isEqualTo(MES.atDay(1));
+        assertThat(resumo.getValorTotal()).isEqualByComparingTo("175.00");
+        assertThat(resumo.getValorImposto()).isEqualByComparingTo("8.75");
+        assertThat(resumo.getValorLiquido()).isEqualByComparingTo("166.25");
+    }
+
+    @Test
+    void estornarDesfazOLancamento() {
+        var servico = servico("100.00", "5.00");
+        service.lancar(servico("40.00", "2.00"));
+        service.lancar(servico);
+
+        service.estornar(servico);
+
+        var resumo = resumo();
+        assertThat(resumo.getQuantidade()).isEqualTo(1);
+        assertThat(resumo.getValorTotal()).isEqualByComparingTo("40.00");
+        assertThat(resumo.getValorLiquido()).isEqualByComparingTo("38.00");
+    }
+
+    private ServicoResumoMensal resumo() {
+        return repository.servicoResumoMensalRepository.findByMesBetweenOrderByMesAsc(MES.atDay(1), MES.atDay(1)).stream()
+                .filter(r -> r.getChave().equals(CHAVE))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static Servico servico(String valorTotal, String valorImposto) {
+        var total = new BigDecimal(valorTotal);
+        var imposto = new BigDecimal(valorImposto);
+        return Servico.builder()
+                .data(LocalDate.of(1999, 1, 15))
+                .status(StatusServico.FATURAMENTO)
+                .imposto(TipoImposto.ISSQN)
+                .tipoPagamento(TipoPagamento.PIX)
+                .valorTotal(total)
+                .valorImposto(imposto)
+                .valorLiquido(total.subtract(imposto))
+                .build();
+    }
+}
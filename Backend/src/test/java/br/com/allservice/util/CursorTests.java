@@ -0,0 +1,43 @@
+package br.com.allservice.util;
+
+import br.com.allservice.execptions.ParametroInvalidoException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CursorTests {
+
+    @Test
+    void decodificaOQueFoiCodificado() {
+        var cursor = new Cursor("2024-05-01T10:15:30.123456", UUID.randomUUID());
+
+        var token = cursor.codificar();
+
+        assertThat(token).doesNotContain("=", "+", "/");
+        assertThat(Cursor.decodificar(token)).isEqualTo(cursor);
+    }
+
+    @Test
+    void chaveComSeparadorUsaOUltimo() {
+        var cursor = new Cursor("a|b", UUID.randomUUID());
+
+        assertThat(Cursor.decodificar(cursor.codificar())).isEqualTo(cursor);
+    }
+
+    @Test
+    void tokenInvalidoERecusado() {
+        var semSeparador = Base64.getUrlEncoder().encodeToString("2024-05-01".getBytes(StandardCharsets.UTF_8));
+        var idInvalido = Base64.getUrlEncoder().encodeToString("2024-05-01|x".getBytes(StandardCharsets.UTF_8));
+
+        for (String token : new String[]{"@@@", semSeparador, idInvalido}) {
+            assertThatThrownBy(() -> Cursor.decodificar(token))
+                    .isInstanceOf(ParametroInvalidoException.class)
+                    .hasMessage("cursor invalido");
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.allservice.util;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import br.com.allservice.execptions.ParametroInvalidoException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MergePatchTests {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void substituiCamposEMantemOsAusentes() throws Exception {
+        var resultado = MergePatch.aplicar(json("{\"a\":1,\"b\":\"x\"}"), json("{\"a\":2}"));
+
+        assertThat(resultado).isEqualTo(json("{\"a\":2,\"b\":\"x\"}"));
+    }
+
+    @Test
+    void nullRemoveOCampo() throws Exception {
+        var resultado = MergePatch.aplicar(json("{\"a\":1,\"b\":\"x\"}"), json("{\"b\":null,\"c\":null}"));
+
+        assertThat(resultado).isEqualTo(json("{\"a\":1}"));
+    }
+
+    @Test
+    void objetosAninhadosSaoMescladosRecursivamente() throws Exception {
+        var alvo = json("{\"o\":{\"x\":1,\"y\":2},\"s\":\"a\"}");
+
+        var resultado = MergePatch.aplicar(alvo, json("{\"o\":{\"y\":null,\"z\":3},\"s\":{\"n\":1}}"));
+
+        assertThat(resultado).isEqualTo(json("{\"o\":{\"x\":1,\"z\":3},\"s\":{\"n\":1}}"));
+        assertThat(alvo).isEqualTo(json("{\"o\":{\"x\":1,\"y\":2},\"s\":\"a\"}"));
+    }
+
+    @Test
+    void patchQueNaoEObjetoSubstituiOAlvoInteiro() throws Exception {
+        assertThat(MergePatch.aplicar(json("{\"a\":1}"), json("[1,2]"))).isEqualTo(json("[1,2]"));
+        assertThat(MergePatch.aplicar(json("{\"a\":1}"), json("\"texto\""))).isEqualTo(json("\"texto\""));
+        assertThat(MergePatch.aplicar(json("[1]"), json("{\"a\":1}"))).isEqualTo(json("{\"a\":1}"));
+    }
+
+    @Test
+    void validarRecusaPatchInvalido() throws Exception {
+        var permitidos = Set.of("a", "b");
+        var obrigatorios = Set.of("b");
+
+        assertThatThrownBy(() -> MergePatch.validar(json("[1]"), permitidos, obrigatorios))
+                .isInstanceOf(ParametroInvalidoException.class);
+        assertThatThrownBy(() -> MergePatch.validar(json("{\"c\":1}"), permitidos, obrigatorios))
+                .isInstanceOf(ParametroInvalidoException.class)
+                .hasMessageContaining("c");
+        assertThatThrownBy(() -> MergePatch.validar(json("{\"b\":null}"), permitidos, obrigatorios))
+                .isInstanceOf(ParametroInvalidoException.class)
+                .hasMessageContaining("b");
+
+        MergePatch.validar(json("{\"a\":null,\"b\":2}"), permitidos, obrigatorios);
+    }
+
+    private JsonNode json(String valor) throws Exception {
+        return objectMapper.readTree(valor);
+    }
+}
@@ -24,6 +24,11 @@ export class EmpresaApi {
     return this.api.get<EmpresaDTO>(`${this.base}/${id}`);
   }
 
+  /** Busca vários registros em uma única requisição; a resposta é indexada pelo id. */
+  getMany(ids: UUID[]) {
+    return this.api.post<Record<UUID, EmpresaDTO>>(`${this.base}/ids`, ids);
+  }
+
   create(payload: EmpresaDTO) {
     return this.api.post<UUID>(this.base, payload);
   }
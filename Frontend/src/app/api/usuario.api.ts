@@ -32,6 +32,11 @@ export class UsuarioApi {
     return this.api.get<UsuarioDTO>(`${this.base}/${id}`);
   }
 
+  /** Busca vários registros em uma única requisição; a resposta é indexada pelo id. */
+  getMany(ids: UUID[]) {
+    return this.api.post<Record<UUID, UsuarioDTO>>(`${this.base}/ids`, ids);
+  }
+
   create(payload: UsuarioDTO) {
     return this.api.post<void>(this.base, payload);
   }
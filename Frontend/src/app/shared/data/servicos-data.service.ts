@@ -1,5 +1,5 @@
 import { Injectable, inject } from '@angular/core';
-import { firstValueFrom } from 'rxjs';
+import { Observable, firstValueFrom } from 'rxjs';
 import { EmpresaApi } from '../../api/empresa.api';
 import { EmpresaDTO, ServicoDTO, UsuarioDTO } from '../../api/models';
 import { ServicoApi } from '../../api/servico.api';
@@ -85,38 +85,44 @@ export class ServicosDataService {
     const empresaIds = Array.from(new Set(dtos.map((dto) => dto.idEmpresa).filter((id): id is string => !!id)));
     const usuarioIds = Array.from(new Set(dtos.map((dto) => dto.idUsuario).filter((id): id is string => !!id)));
 
-    await Promise.all(
-      empresaIds.map(async (id) => {
-        if (this.empresasCache.has(id)) {
-          empresas.set(id, this.empresasCache.get(id)!);
-          return;
-        }
-        try {
-          const dto = await firstValueFrom(this.empresaApi.get(id));
-          this.empresasCache.set(id, dto);
-          empresas.set(id, dto);
-        } catch (erro) {
-          console.error('[ServicosDataService] Falha ao carregar empresa', id, erro);
-        }
-      })
-    );
+    const empresasPendentes = empresaIds.filter((id) => !this.empresasCache.has(id));
+    const usuariosPendentes = usuarioIds.filter((id) => !this.usuariosCache.has(id));
 
-    await Promise.all(
-      usuarioIds.map(async (id) => {
-        if (this.usuariosCache.has(id)) {
-          usuarios.set(id, this.usuariosCache.get(id)!);
-          return;
-        }
-        try {
-          const dto = await firstValueFrom(this.usuarioApi.get(id));
-          this.usuariosCache.set(id, dto);
-          usuarios.set(id, dto);
-        } catch (erro) {
-          console.error('[ServicosDataService] Falha ao carregar usuário', id, erro);
-        }
-      })
-    );
+    await Promise.all([
+      this.carregarEmLote(empresasPendentes, (ids) => this.empresaApi.getMany(ids), this.empresasCache, 'empresas'),
+      this.carregarEmLote(usuariosPendentes, (ids) => this.usuarioApi.getMany(ids), this.usuariosCache, 'usuários'),
+    ]);
+
+    for (const id of empresaIds) {
+      const empresa = this.empresasCache.get(id);
+      if (empresa) {
+        empresas.set(id, empresa);
+      }
+    }
+    for (const id of usuarioIds) {
+      const usuario = this.usuariosCache.get(id);
+      if (usuario) {
+        usuarios.set(id, usuario);
+      }
+    }
 
     return { empresas, usuarios };
   }
+
+  private async carregarEmLote<T>(
+    ids: string[],
+    buscar: (ids: string[]) => Observable<Record<string, T>>,
+    cache: Map<string, T>,
+    descricao: string
+  ): Promise<void> {
+    if (ids.length === 0) {
+      return;
+    }
+    try {
+      const encontrados = await firstValueFrom(buscar(ids));
+      Object.entries(encontrados ?? {}).forEach(([id, dto]) => cache.set(id, dto));
+    } catch (erro) {
+      console.error(`[ServicosDataService] Falha ao carregar ${descricao}`, ids, erro);
+    }
+  }
 }